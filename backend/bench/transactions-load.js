@@ -0,0 +1,57 @@
+// Carga mista de leitura e escrita na API de transações para comparar os
+// modos de thread (docs/virtual-threads.md).
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e USERNAME=bench -e PASSWORD=bench123 \
+//          -e VUS=200 -e DURATION=2m bench/transactions-load.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+export const options = {
+    scenarios: {
+        mixed: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 200),
+            duration: __ENV.DURATION || '2m',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const credentials = JSON.stringify({ username: __ENV.USERNAME, password: __ENV.PASSWORD });
+    const login = http.post(`${BASE_URL}/api/auth/login`, credentials, {
+        headers: { 'Content-Type': 'application/json' },
+    });
+    const headers = {
+        Authorization: `Bearer ${login.json('data.token')}`,
+        'Content-Type': 'application/json',
+    };
+    const accountId = http.get(`${BASE_URL}/api/accounts`, { headers }).json('data.0.id');
+    const categoryId = http.get(`${BASE_URL}/api/categories`, { headers }).json('data.0.id');
+    return { headers, accountId, categoryId };
+}
+
+export default function (ctx) {
+    const params = { headers: ctx.headers };
+    const roll = Math.random();
+    let res;
+    if (roll < 0.6) {
+        res = http.get(`${BASE_URL}/api/transactions?size=50&after=`, params);
+    } else if (roll < 0.8) {
+        res = http.get(`${BASE_URL}/api/reports?groupBy=month,type&dateFrom=2025-01-01&dateTo=2025-12-31`, params);
+    } else if (roll < 0.9) {
+        res = http.get(`${BASE_URL}/api/accounts`, params);
+    } else {
+        res = http.post(`${BASE_URL}/api/transactions`, JSON.stringify({
+            dueDate: '15/06/2025',
+            description: 'k6',
+            amount: 10,
+            type: 1,
+            accountId: ctx.accountId,
+            categoryId: ctx.categoryId,
+        }), params);
+    }
+    check(res, { 'status 200': (r) => r.status === 200 });
+}
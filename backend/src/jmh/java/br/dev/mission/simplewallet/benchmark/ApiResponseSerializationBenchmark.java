@@ -0,0 +1,76 @@
+package br.dev.mission.simplewallet.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.dev.mission.simplewallet.dto.ApiResponse;
+import br.dev.mission.simplewallet.dto.transaction.TransactionResponse;
+import br.dev.mission.simplewallet.model.TransactionType;
+import br.dev.mission.simplewallet.util.LocalDateConverter;
+
+/**
+ * Serialização da resposta de listagem de transações, com o ObjectMapper
+ * configurado como em application.yaml (spring.jackson.*).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({ "20", "100" })
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<Page<TransactionResponse>> response;
+
+    @Setup
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .simpleDateFormat(LocalDateConverter.DATE_FORMAT)
+                .timeZone("America/Sao_Paulo")
+                .build();
+
+        String userId = UUID.randomUUID().toString();
+        List<TransactionResponse> content = new ArrayList<>(pageSize);
+        LocalDate dueDate = LocalDate.of(2025, 1, 1);
+        for (int i = 0; i < pageSize; i++) {
+            content.add(new TransactionResponse((long) i, "Transação " + i, new BigDecimal("125.90"),
+                    TransactionType.EX.getCode(), dueDate.plusDays(i), i % 2 == 0 ? dueDate.plusDays(i) : null,
+                    i % 2 == 0 ? new BigDecimal("125.90") : null, 1L, "Conta corrente", 2L, "Mercado", userId,
+                    "bench", i % 2 == 0 ? "effective" : "pending", null, null));
+        }
+        Page<TransactionResponse> page = new PageImpl<>(content, PageRequest.of(0, pageSize), pageSize * 10L);
+        response = new ApiResponse<>(200, "Transações encontradas", page);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
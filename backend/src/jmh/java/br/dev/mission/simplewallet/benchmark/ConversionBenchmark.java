@@ -0,0 +1,55 @@
+package br.dev.mission.simplewallet.benchmark;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.dev.mission.simplewallet.model.TransactionType;
+import br.dev.mission.simplewallet.util.LocalDateConverter;
+
+/**
+ * Conversões executadas por linha em listagens e importações: código do tipo
+ * de transação e datas nos formatos dd/MM/yyyy e ISO.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConversionBenchmark {
+
+    // Campos não finais para o JIT não propagar as constantes
+    private Integer typeCode = 1;
+    private String brDate = "15/03/2025";
+    private String isoDate = "2025-03-15";
+
+    @Benchmark
+    public TransactionType transactionTypeFromCode() {
+        return TransactionType.fromCode(typeCode);
+    }
+
+    @Benchmark
+    public LocalDate convertBrDate() {
+        return LocalDateConverter.convert(brDate);
+    }
+
+    @Benchmark
+    public LocalDate convertQueryParamBrDate() {
+        return LocalDateConverter.convertQueryParam(brDate);
+    }
+
+    @Benchmark
+    public LocalDate convertQueryParamIsoDate() {
+        return LocalDateConverter.convertQueryParam(isoDate);
+    }
+}
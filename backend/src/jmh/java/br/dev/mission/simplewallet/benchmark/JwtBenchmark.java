@@ -0,0 +1,55 @@
+package br.dev.mission.simplewallet.benchmark;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.dev.mission.simplewallet.model.User;
+import br.dev.mission.simplewallet.security.JwtUtil;
+import br.dev.mission.simplewallet.security.TokenClaims;
+
+/**
+ * Emissão e verificação de access tokens (HMAC-SHA256), executadas a cada
+ * login e a cada requisição autenticada sem acerto no TokenCache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtUtil = new JwtUtil("benchmark-secret-key-with-at-least-32-characters");
+        user = new User(UUID.randomUUID(), UUID.randomUUID());
+        user.setUsername("bench");
+        token = jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public Optional<TokenClaims> parseToken() {
+        return jwtUtil.parseToken(token);
+    }
+}
@@ -0,0 +1,27 @@
+package br.dev.mission.simplewallet.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+
+/**
+ * Repositórios falsos para os benchmarks: {@code findById} devolve sempre a
+ * mesma entidade, sem banco nem Mockito no caminho medido.
+ */
+final class RepositoryStubs {
+
+    private RepositoryStubs() {
+    }
+
+    static <R> R findingById(Class<R> repositoryType, Object entity) {
+        Optional<Object> result = Optional.of(entity);
+        Object proxy = Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[] { repositoryType },
+                (instance, method, args) -> switch (method.getName()) {
+                    case "findById" -> result;
+                    case "toString" -> repositoryType.getSimpleName() + "Stub";
+                    case "hashCode" -> System.identityHashCode(instance);
+                    case "equals" -> instance == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        return repositoryType.cast(proxy);
+    }
+}
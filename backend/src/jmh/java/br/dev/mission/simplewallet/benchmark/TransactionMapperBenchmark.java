@@ -0,0 +1,87 @@
+package br.dev.mission.simplewallet.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.dev.mission.simplewallet.dto.transaction.TransactionRequest;
+import br.dev.mission.simplewallet.dto.transaction.TransactionResponse;
+import br.dev.mission.simplewallet.mapper.transaction.TransactionMapper;
+import br.dev.mission.simplewallet.model.Account;
+import br.dev.mission.simplewallet.model.Category;
+import br.dev.mission.simplewallet.model.Transaction;
+import br.dev.mission.simplewallet.model.TransactionType;
+import br.dev.mission.simplewallet.model.User;
+import br.dev.mission.simplewallet.repository.account.AccountRepository;
+import br.dev.mission.simplewallet.repository.category.CategoryRepository;
+import br.dev.mission.simplewallet.repository.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Custo de CPU do mapeamento request -> entidade -> response, com os
+ * repositórios substituídos por stubs em memória.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionMapperBenchmark {
+
+    private TransactionMapper mapper;
+    private TransactionRequest request;
+    private Transaction transaction;
+    private String userId;
+
+    @Setup
+    public void setup() {
+        UUID id = UUID.randomUUID();
+        userId = id.toString();
+
+        Account account = new Account();
+        account.setId(1L);
+        account.setDescription("Conta corrente");
+        Category category = new Category();
+        category.setId(2L);
+        category.setCategory("Mercado");
+        User user = new User(userId, "bench", "bench@example.com");
+
+        mapper = new TransactionMapper();
+        ReflectionTestUtils.setField(mapper, "accountRepository",
+                RepositoryStubs.findingById(AccountRepository.class, account));
+        ReflectionTestUtils.setField(mapper, "categoryRepository",
+                RepositoryStubs.findingById(CategoryRepository.class, category));
+        ReflectionTestUtils.setField(mapper, "userRepository",
+                RepositoryStubs.findingById(UserRepository.class, user));
+        ReflectionTestUtils.setField(mapper, "meterRegistry", new SimpleMeterRegistry());
+
+        request = new TransactionRequest(LocalDate.of(2025, 1, 10), "Almoço", new BigDecimal("25.50"),
+                TransactionType.EX.getCode(), null, null, 1L, 2L);
+        transaction = mapper.toEntity(request, userId);
+        transaction.setId(10L);
+    }
+
+    @Benchmark
+    public Transaction toEntity() {
+        return mapper.toEntity(request, userId);
+    }
+
+    @Benchmark
+    public TransactionResponse toResponse() {
+        return mapper.toResponse(transaction);
+    }
+}
@@ -0,0 +1,87 @@
+package br.dev.mission.simplewallet.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.configuration.FactoryBuilder;
+import javax.cache.expiry.EternalExpiryPolicy;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+
+/**
+ * Regiões do cache de segundo nível do Hibernate para as entidades de
+ * referência (Account, Category, User) e para as consultas marcadas como
+ * cacheáveis. Cada região é um cache Caffeine local limitado por tamanho e
+ * TTL; o próprio Hibernate invalida as entradas quando a entidade ou a tabela
+ * é alterada. As estatísticas JCache ficam ativas para expor a taxa de acerto.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String ACCOUNT_REGION = "account";
+    public static final String CATEGORY_REGION = "category";
+    public static final String USER_REGION = "user";
+
+    private static final List<String> EXPIRING_REGIONS = List.of(ACCOUNT_REGION, CATEGORY_REGION, USER_REGION,
+            RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${cache.second-level.max-size:10000}") long maxSize,
+            @Value("${cache.second-level.ttl:10m}") Duration ttl) {
+        // Um CacheManager por contexto: o provider é global na JVM e os testes sobem vários contextos
+        URI uri = URI.create("simplewallet-hibernate-" + System.identityHashCode(this));
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(uri, getClass().getClassLoader());
+
+        for (String region : EXPIRING_REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.NANOSECONDS.convert(ttl)));
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(region, configuration);
+        }
+
+        // Os timestamps de atualização das tabelas não podem expirar antes dos
+        // resultados de consulta que dependem deles
+        CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+        timestamps.setExpiryPolicyFactory(FactoryBuilder.factoryOf(EternalExpiryPolicy.class));
+        timestamps.setStatisticsEnabled(true);
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, timestamps);
+        return cacheManager;
+    }
+
+    @Bean
+    public MeterBinder hibernateCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> {
+            for (String region : hibernateCacheManager.getCacheNames()) {
+                JCacheMetrics.monitor(registry, hibernateCacheManager.getCache(region));
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+        };
+    }
+}
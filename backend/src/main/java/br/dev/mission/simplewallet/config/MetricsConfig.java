@@ -0,0 +1,21 @@
+package br.dev.mission.simplewallet.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Habilita os timers declarados com {@code @Timed} nos serviços. Pool Hikari,
+ * estatísticas do Hibernate e JVM são registrados pela autoconfiguração do
+ * Actuator e expostos em {@code /actuator/prometheus}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
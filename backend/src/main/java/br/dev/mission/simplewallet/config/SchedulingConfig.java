@@ -0,0 +1,12 @@
+package br.dev.mission.simplewallet.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Tarefas periódicas da aplicação (ex.: limpeza de refresh tokens expirados).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
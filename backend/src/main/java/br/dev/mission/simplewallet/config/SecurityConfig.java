@@ -1,14 +1,44 @@
 package br.dev.mission.simplewallet.config;
 
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import br.dev.mission.simplewallet.security.BCryptCostCalibrator;
+import br.dev.mission.simplewallet.security.BoundedPasswordEncoder;
+import br.dev.mission.simplewallet.security.TimedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 public class SecurityConfig {
+    private static final Logger log = LoggerFactory.getLogger(SecurityConfig.class);
+
+    /**
+     * BCrypt com custo fixo (security.password.bcrypt.strength) ou calibrado na
+     * subida para o tempo alvo, executado no pool limitado de hash.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+            @Value("${security.password.bcrypt.strength:0}") int strength,
+            @Value("${security.password.bcrypt.target-time:250ms}") Duration targetTime,
+            @Value("${security.password.bcrypt.min-strength:10}") int minStrength,
+            @Value("${security.password.bcrypt.max-strength:16}") int maxStrength,
+            @Value("${security.password.hashing.threads:0}") int threads,
+            @Value("${security.password.hashing.queue-capacity:32}") int queueCapacity) {
+        if (strength <= 0) {
+            strength = BCryptCostCalibrator.calibrate(targetTime, minStrength, maxStrength);
+            log.info("Custo do BCrypt calibrado em {} para o alvo de {} ms", strength, targetTime.toMillis());
+        }
+        if (threads <= 0) {
+            threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        }
+        PasswordEncoder bcrypt = new TimedPasswordEncoder(new BCryptPasswordEncoder(strength), meterRegistry);
+        return new BoundedPasswordEncoder(bcrypt, threads, queueCapacity, meterRegistry);
     }
 }
@@ -4,12 +4,14 @@ import br.dev.mission.simplewallet.dto.ApiResponse;
 import br.dev.mission.simplewallet.dto.account.AccountRequest;
 import br.dev.mission.simplewallet.dto.account.AccountResponse;
 import br.dev.mission.simplewallet.service.account.AccountService;
-import br.dev.mission.simplewallet.repository.user.UserRepository;
+import br.dev.mission.simplewallet.security.CurrentUser;
+import br.dev.mission.simplewallet.security.UserPrincipal;
+import br.dev.mission.simplewallet.service.user.DataVersionService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -19,26 +21,23 @@ public class AccountController {
     @Autowired
     private AccountService accountService;
     @Autowired
-    private UserRepository userRepository;
-
-    private String getLoggedUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        return userRepository.findByUsername(username)
-                .map(user -> user.getId().toString())
-                .orElseThrow(() -> new RuntimeException("Usuário autenticado não encontrado"));
-    }
+    private DataVersionService dataVersionService;
 
     @PostMapping
-    public ResponseEntity<ApiResponse<AccountResponse>> create(@RequestBody AccountRequest request) {
-        String userId = getLoggedUserId();
+    public ResponseEntity<ApiResponse<AccountResponse>> create(@CurrentUser UserPrincipal principal, @RequestBody AccountRequest request) {
+        String userId = principal.userId();
         AccountResponse response = accountService.create(request, userId);
         return ResponseEntity.ok(new ApiResponse<>(201, "Conta criada com sucesso", response));
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<AccountResponse>>> list(@RequestParam(required = false) Boolean isParent) {
-        String userId = getLoggedUserId();
+    public ResponseEntity<ApiResponse<List<AccountResponse>>> list(@CurrentUser UserPrincipal principal, @RequestParam(required = false) Boolean isParent,
+            WebRequest webRequest) {
+        String userId = principal.userId();
+        String etag = dataVersionService.etag(userId, Boolean.TRUE.equals(isParent));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<AccountResponse> accounts;
         
         if (Boolean.TRUE.equals(isParent)) {
@@ -47,28 +46,29 @@ public class AccountController {
             accounts = accountService.findByUserId(userId);
         }
         
-        return ResponseEntity.ok(new ApiResponse<>(200, "Contas encontradas", accounts));
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate())
+                .body(new ApiResponse<>(200, "Contas encontradas", accounts));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<AccountResponse>> getById(@PathVariable Long id) {
-        String userId = getLoggedUserId();
+    public ResponseEntity<ApiResponse<AccountResponse>> getById(@CurrentUser UserPrincipal principal, @PathVariable Long id) {
+        String userId = principal.userId();
         return accountService.findById(id, userId)
                 .map(acc -> ResponseEntity.ok(new ApiResponse<>(200, "Conta encontrada", acc)))
                 .orElse(ResponseEntity.ok(new ApiResponse<>(404, "Conta não encontrada", null)));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<ApiResponse<AccountResponse>> update(@PathVariable Long id, @RequestBody AccountRequest request) {
-        String userId = getLoggedUserId();
+    public ResponseEntity<ApiResponse<AccountResponse>> update(@CurrentUser UserPrincipal principal, @PathVariable Long id, @RequestBody AccountRequest request) {
+        String userId = principal.userId();
         return accountService.update(id, request, userId)
                 .map(acc -> ResponseEntity.ok(new ApiResponse<>(200, "Conta atualizada", acc)))
                 .orElse(ResponseEntity.ok(new ApiResponse<>(404, "Conta não encontrada", null)));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<ApiResponse<Void>> delete(@PathVariable Long id) {
-        String userId = getLoggedUserId();
+    public ResponseEntity<ApiResponse<Void>> delete(@CurrentUser UserPrincipal principal, @PathVariable Long id) {
+        String userId = principal.userId();
         boolean deleted = accountService.delete(id, userId);
         if (deleted) {
             return ResponseEntity.ok(new ApiResponse<>(200, "Conta removida com sucesso", null));
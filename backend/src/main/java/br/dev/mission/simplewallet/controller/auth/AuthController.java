@@ -7,6 +7,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -16,9 +17,13 @@ import br.dev.mission.simplewallet.dto.auth.LoginResponse;
 import br.dev.mission.simplewallet.dto.auth.RefreshRequest;
 import br.dev.mission.simplewallet.dto.user.UserRequestCreate;
 import br.dev.mission.simplewallet.dto.user.UserResponse;
+import br.dev.mission.simplewallet.exception.ServiceOverloadedException;
 import br.dev.mission.simplewallet.model.User;
 import br.dev.mission.simplewallet.repository.user.UserRepository;
 import br.dev.mission.simplewallet.security.JwtUtil;
+import br.dev.mission.simplewallet.service.auth.RefreshTokenGrant;
+import br.dev.mission.simplewallet.service.auth.RefreshTokenService;
+import br.dev.mission.simplewallet.service.auth.TokenRevocationService;
 import br.dev.mission.simplewallet.service.user.UserService;
 import jakarta.validation.Valid;
 
@@ -29,12 +34,17 @@ public class AuthController {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
 
-    public AuthController(UserService userService, UserRepository userRepository, PasswordEncoder passwordEncoder, JwtUtil jwtUtil) {
+    public AuthController(UserService userService, UserRepository userRepository, PasswordEncoder passwordEncoder, JwtUtil jwtUtil,
+            RefreshTokenService refreshTokenService, TokenRevocationService tokenRevocationService) {
         this.userService = userService;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtil = jwtUtil;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @PostMapping("/register")
@@ -53,8 +63,15 @@ public class AuthController {
         }
         
         User user = userOpt.get();
-        String token = jwtUtil.generateToken(user.getUsername());
-        String refreshToken = jwtUtil.generateRefreshToken(user.getUsername());
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            try {
+                userService.rehashPassword(user.getId(), request.password());
+            } catch (ServiceOverloadedException e) {
+                // Sem capacidade agora: o próximo login tenta de novo
+            }
+        }
+        String token = jwtUtil.generateToken(user);
+        String refreshToken = refreshTokenService.issue(user.getId());
         long expiresIn = jwtUtil.getExpirationInSeconds();
         String expiresAt = jwtUtil.getExpirationDateISO();
         
@@ -64,43 +81,41 @@ public class AuthController {
 
     @PostMapping("/refresh")
     public ResponseEntity<ApiResponse<LoginResponse>> refresh(@RequestBody RefreshRequest request) {
-        // Validação básica do refresh token
         if (request.refreshToken() == null || request.refreshToken().isEmpty()) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(new ApiResponse<>(400, "Refresh token é obrigatório", null));
         }
 
-        // Extrai o username do refresh token (formato: refresh_username_timestamp)
-        try {
-            String[] parts = request.refreshToken().split("_");
-            if (parts.length < 3 || !parts[0].equals("refresh")) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(new ApiResponse<>(401, "Refresh token inválido", null));
-            }
-            
-            String username = parts[1];
-            
-            // Verifica se o usuário ainda existe
-            Optional<User> userOpt = userRepository.findByUsername(username);
-            if (userOpt.isEmpty()) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(new ApiResponse<>(401, "Usuário não encontrado", null));
-            }
-            
-            User user = userOpt.get();
-            
-            // Gera novos tokens
-            String newToken = jwtUtil.generateToken(user.getUsername());
-            String newRefreshToken = jwtUtil.generateRefreshToken(user.getUsername());
-            long expiresIn = jwtUtil.getExpirationInSeconds();
-            String expiresAt = jwtUtil.getExpirationDateISO();
-            
-            LoginResponse loginResponse = new LoginResponse(newToken, newRefreshToken, expiresIn, expiresAt, "Bearer");
-            return ResponseEntity.ok(new ApiResponse<>(200, "Token renovado com sucesso", loginResponse));
-            
-        } catch (Exception e) {
+        // Token desconhecido, expirado ou reutilizado (nesse caso a sessão já foi revogada)
+        Optional<RefreshTokenGrant> grant = refreshTokenService.rotate(request.refreshToken());
+        Optional<User> userOpt = grant.flatMap(g -> userRepository.findById(g.userId()));
+        if (userOpt.isEmpty()) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body(new ApiResponse<>(401, "Refresh token inválido", null));
         }
+
+        String newToken = jwtUtil.generateToken(userOpt.get());
+        long expiresIn = jwtUtil.getExpirationInSeconds();
+        String expiresAt = jwtUtil.getExpirationDateISO();
+
+        LoginResponse loginResponse = new LoginResponse(newToken, grant.get().refreshToken(), expiresIn, expiresAt, "Bearer");
+        return ResponseEntity.ok(new ApiResponse<>(200, "Token renovado com sucesso", loginResponse));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Void>> logout(@RequestBody RefreshRequest request,
+            @RequestHeader(value = "Authorization", required = false) String authorization) {
+        if (request.refreshToken() == null || request.refreshToken().isEmpty()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ApiResponse<>(400, "Refresh token é obrigatório", null));
+        }
+
+        refreshTokenService.revoke(request.refreshToken());
+        // O access token em uso, se enviado, também deixa de valer
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            jwtUtil.parseToken(authorization.substring(7))
+                .ifPresent(claims -> tokenRevocationService.revokeToken(claims.tokenId(), claims.expiresAt()));
+        }
+        return ResponseEntity.ok(new ApiResponse<>(200, "Logout realizado com sucesso", null));
     }
 }
@@ -4,12 +4,14 @@ import br.dev.mission.simplewallet.dto.ApiResponse;
 import br.dev.mission.simplewallet.dto.category.CategoryRequest;
 import br.dev.mission.simplewallet.dto.category.CategoryResponse;
 import br.dev.mission.simplewallet.service.category.CategoryService;
-import br.dev.mission.simplewallet.repository.user.UserRepository;
+import br.dev.mission.simplewallet.security.CurrentUser;
+import br.dev.mission.simplewallet.security.UserPrincipal;
+import br.dev.mission.simplewallet.service.user.DataVersionService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -19,26 +21,23 @@ public class CategoryController {
     @Autowired
     private CategoryService categoryService;
     @Autowired
-    private UserRepository userRepository;
-
-    private String getLoggedUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        return userRepository.findByUsername(username)
-                .map(user -> user.getId().toString())
-                .orElseThrow(() -> new RuntimeException("Usuário autenticado não encontrado"));
-    }
+    private DataVersionService dataVersionService;
 
     @PostMapping
-    public ResponseEntity<ApiResponse<CategoryResponse>> create(@RequestBody CategoryRequest request) {
-        String userId = getLoggedUserId();
+    public ResponseEntity<ApiResponse<CategoryResponse>> create(@CurrentUser UserPrincipal principal, @RequestBody CategoryRequest request) {
+        String userId = principal.userId();
         CategoryResponse response = categoryService.create(request, userId);
         return ResponseEntity.ok(new ApiResponse<>(201, "Categoria criada com sucesso", response));
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<CategoryResponse>>> list(@RequestParam(required = false) Boolean isParent) {
-        String userId = getLoggedUserId();
+    public ResponseEntity<ApiResponse<List<CategoryResponse>>> list(@CurrentUser UserPrincipal principal, @RequestParam(required = false) Boolean isParent,
+            WebRequest webRequest) {
+        String userId = principal.userId();
+        String etag = dataVersionService.etag(userId, Boolean.TRUE.equals(isParent));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<CategoryResponse> categories;
         
         if (Boolean.TRUE.equals(isParent)) {
@@ -47,28 +46,29 @@ public class CategoryController {
             categories = categoryService.findByUserId(userId);
         }
         
-        return ResponseEntity.ok(new ApiResponse<>(200, "Categorias encontradas", categories));
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate())
+                .body(new ApiResponse<>(200, "Categorias encontradas", categories));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<CategoryResponse>> getById(@PathVariable Long id) {
-        String userId = getLoggedUserId();
+    public ResponseEntity<ApiResponse<CategoryResponse>> getById(@CurrentUser UserPrincipal principal, @PathVariable Long id) {
+        String userId = principal.userId();
         return categoryService.findById(id, userId)
                 .map(cat -> ResponseEntity.ok(new ApiResponse<>(200, "Categoria encontrada", cat)))
                 .orElse(ResponseEntity.ok(new ApiResponse<>(404, "Categoria não encontrada", null)));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<ApiResponse<CategoryResponse>> update(@PathVariable Long id, @RequestBody CategoryRequest request) {
-        String userId = getLoggedUserId();
+    public ResponseEntity<ApiResponse<CategoryResponse>> update(@CurrentUser UserPrincipal principal, @PathVariable Long id, @RequestBody CategoryRequest request) {
+        String userId = principal.userId();
         return categoryService.update(id, request, userId)
                 .map(cat -> ResponseEntity.ok(new ApiResponse<>(200, "Categoria atualizada", cat)))
                 .orElse(ResponseEntity.ok(new ApiResponse<>(404, "Categoria não encontrada", null)));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<ApiResponse<Void>> delete(@PathVariable Long id) {
-        String userId = getLoggedUserId();
+    public ResponseEntity<ApiResponse<Void>> delete(@CurrentUser UserPrincipal principal, @PathVariable Long id) {
+        String userId = principal.userId();
         boolean deleted = categoryService.delete(id, userId);
         if (deleted) {
             return ResponseEntity.ok(new ApiResponse<>(200, "Categoria removida com sucesso", null));
@@ -0,0 +1,122 @@
+package br.dev.mission.simplewallet.controller.recurrence;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.dev.mission.simplewallet.dto.ApiResponse;
+import br.dev.mission.simplewallet.dto.recurrence.RecurrenceOccurrenceResponse;
+import br.dev.mission.simplewallet.dto.recurrence.RecurrenceRequest;
+import br.dev.mission.simplewallet.dto.recurrence.RecurrenceResponse;
+import br.dev.mission.simplewallet.dto.transaction.TransactionEffectivationRequest;
+import br.dev.mission.simplewallet.dto.transaction.TransactionRequest;
+import br.dev.mission.simplewallet.dto.transaction.TransactionResponse;
+import br.dev.mission.simplewallet.security.CurrentUser;
+import br.dev.mission.simplewallet.security.UserPrincipal;
+import br.dev.mission.simplewallet.service.recurrence.RecurrenceService;
+import br.dev.mission.simplewallet.util.LocalDateConverter;
+
+@RestController
+@RequestMapping("/api/recurrences")
+public class RecurrenceController {
+
+    @Autowired
+    private RecurrenceService recurrenceService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<RecurrenceResponse>> create(@CurrentUser UserPrincipal principal,
+            @RequestBody RecurrenceRequest request) {
+        String userId = principal.userId();
+        RecurrenceResponse response = recurrenceService.create(request, userId);
+        return ResponseEntity.ok(new ApiResponse<>(201, "Recorrência criada com sucesso", response));
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<RecurrenceResponse>>> list(@CurrentUser UserPrincipal principal) {
+        String userId = principal.userId();
+        return ResponseEntity.ok(new ApiResponse<>(200, "Recorrências encontradas", recurrenceService.findAll(userId)));
+    }
+
+    /**
+     * Ocorrências do intervalo, virtuais ou já materializadas, ordenadas por
+     * data.
+     */
+    @GetMapping("/occurrences")
+    public ResponseEntity<ApiResponse<List<RecurrenceOccurrenceResponse>>> occurrences(
+            @CurrentUser UserPrincipal principal,
+            @RequestParam(value = "isParent", required = false, defaultValue = "false") boolean isParent,
+            @RequestParam(required = false) String dateFrom,
+            @RequestParam(required = false) String dateTo) {
+        String userId = principal.userId();
+        List<RecurrenceOccurrenceResponse> occurrences = recurrenceService.occurrences(userId, isParent,
+                LocalDateConverter.convertQueryParam(dateFrom), LocalDateConverter.convertQueryParam(dateTo));
+        return ResponseEntity.ok(new ApiResponse<>(200, "Ocorrências encontradas", occurrences));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<RecurrenceResponse>> getById(@CurrentUser UserPrincipal principal,
+            @PathVariable Long id) {
+        String userId = principal.userId();
+        return recurrenceService.findById(id, userId)
+                .map(rule -> ResponseEntity.ok(new ApiResponse<>(200, "Recorrência encontrada", rule)))
+                .orElse(ResponseEntity.ok(new ApiResponse<>(404, "Recorrência não encontrada", null)));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<Void>> delete(@CurrentUser UserPrincipal principal, @PathVariable Long id) {
+        String userId = principal.userId();
+        if (recurrenceService.delete(id, userId)) {
+            return ResponseEntity.ok(new ApiResponse<>(200, "Recorrência removida com sucesso", null));
+        } else {
+            return ResponseEntity.ok(new ApiResponse<>(404, "Recorrência não encontrada", null));
+        }
+    }
+
+    /**
+     * Edita a ocorrência da data informada (yyyy-MM-dd), gravando-a como
+     * transação na primeira edição.
+     */
+    @PutMapping("/{id}/occurrences/{date}")
+    public ResponseEntity<ApiResponse<TransactionResponse>> updateOccurrence(@CurrentUser UserPrincipal principal,
+            @PathVariable Long id, @PathVariable String date, @RequestBody TransactionRequest request) {
+        String userId = principal.userId();
+        return recurrenceService.updateOccurrence(id, LocalDateConverter.convertQueryParam(date), request, userId)
+                .map(tx -> ResponseEntity.ok(new ApiResponse<>(200, "Ocorrência atualizada", tx)))
+                .orElse(ResponseEntity.ok(new ApiResponse<>(404, "Ocorrência não encontrada", null)));
+    }
+
+    @PatchMapping("/{id}/occurrences/{date}/effective")
+    public ResponseEntity<ApiResponse<TransactionResponse>> effectiveOccurrence(@CurrentUser UserPrincipal principal,
+            @PathVariable Long id, @PathVariable String date, @RequestBody TransactionEffectivationRequest request) {
+        String userId = principal.userId();
+        return recurrenceService.effectiveOccurrence(id, LocalDateConverter.convertQueryParam(date), request, userId)
+                .map(tx -> ResponseEntity.ok(new ApiResponse<>(200, "Ocorrência efetivada com sucesso", tx)))
+                .orElse(ResponseEntity.ok(new ApiResponse<>(404, "Ocorrência não encontrada", null)));
+    }
+
+    /**
+     * Remove a ocorrência da data informada (yyyy-MM-dd), inclusive a
+     * transação já materializada; a data não volta mais na expansão.
+     */
+    @DeleteMapping("/{id}/occurrences/{date}")
+    public ResponseEntity<ApiResponse<Void>> deleteOccurrence(@CurrentUser UserPrincipal principal,
+            @PathVariable Long id, @PathVariable String date) {
+        String userId = principal.userId();
+        if (recurrenceService.deleteOccurrence(id, LocalDateConverter.convertQueryParam(date), userId)) {
+            return ResponseEntity.ok(new ApiResponse<>(200, "Ocorrência removida com sucesso", null));
+        } else {
+            return ResponseEntity.ok(new ApiResponse<>(404, "Ocorrência não encontrada", null));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package br.dev.mission.simplewallet.controller.report;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.dev.mission.simplewallet.dto.ApiResponse;
+import br.dev.mission.simplewallet.dto.report.ReportGroup;
+import br.dev.mission.simplewallet.dto.report.ReportResponse;
+import br.dev.mission.simplewallet.dto.transaction.TransactionFilter;
+import br.dev.mission.simplewallet.security.CurrentUser;
+import br.dev.mission.simplewallet.security.UserPrincipal;
+import br.dev.mission.simplewallet.service.report.ReportService;
+import br.dev.mission.simplewallet.util.LocalDateConverter;
+
+@RestController
+@RequestMapping("/api/reports")
+public class ReportController {
+    @Autowired
+    private ReportService reportService;
+
+    /**
+     * Agregados de transações agrupados por month, category, account, type e/ou
+     * user (ex.: groupBy=month,type para o balanço mensal).
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<ReportResponse>> aggregate(
+            @CurrentUser UserPrincipal principal,
+            @RequestParam(value = "isParent", required = false, defaultValue = "false") boolean isParent,
+            @RequestParam(required = false) String groupBy,
+            @RequestParam(required = false) Long accountId,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Integer type,
+            @RequestParam(required = false) String dateFrom,
+            @RequestParam(required = false) String dateTo,
+            @RequestParam(required = false) String dateType) {
+        String userId = principal.userId();
+        TransactionFilter filter = new TransactionFilter(accountId, categoryId, type,
+                LocalDateConverter.convertQueryParam(dateFrom), LocalDateConverter.convertQueryParam(dateTo),
+                dateType, null, null, null);
+
+        ReportResponse report = reportService.aggregate(userId, isParent, filter, ReportGroup.parse(groupBy));
+        return ResponseEntity.ok(new ApiResponse<>(200, "Relatório gerado", report));
+    }
+
+    /**
+     * Recalcula os totais mensais do usuário (ou da família) a partir das
+     * transações. Retorna o número de linhas geradas.
+     */
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<ApiResponse<Integer>> rebuildRollups(
+            @CurrentUser UserPrincipal principal,
+            @RequestParam(value = "isParent", required = false, defaultValue = "false") boolean isParent) {
+        int rows = reportService.rebuildRollups(principal.userId(), isParent);
+        return ResponseEntity.ok(new ApiResponse<>(200, "Totais mensais recalculados", rows));
+    }
+}
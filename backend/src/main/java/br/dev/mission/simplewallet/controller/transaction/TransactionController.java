@@ -1,13 +1,18 @@
 package br.dev.mission.simplewallet.controller.transaction;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -18,73 +23,231 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import br.dev.mission.simplewallet.dto.ApiResponse;
+import br.dev.mission.simplewallet.dto.transaction.TransactionCursor;
 import br.dev.mission.simplewallet.dto.transaction.TransactionEffectivationRequest;
+import br.dev.mission.simplewallet.dto.transaction.TransactionExportFormat;
+import br.dev.mission.simplewallet.dto.transaction.TransactionFilter;
+import br.dev.mission.simplewallet.dto.transaction.TransactionGroupRescheduleRequest;
+import br.dev.mission.simplewallet.dto.transaction.TransactionGroupSettleRequest;
+import br.dev.mission.simplewallet.dto.transaction.TransactionImportResponse;
 import br.dev.mission.simplewallet.dto.transaction.TransactionRequest;
 import br.dev.mission.simplewallet.dto.transaction.TransactionRequestWithInstallment;
 import br.dev.mission.simplewallet.dto.transaction.TransactionResponse;
-import br.dev.mission.simplewallet.repository.user.UserRepository;
+import br.dev.mission.simplewallet.dto.transaction.TransactionStatusCounts;
+import br.dev.mission.simplewallet.dto.transaction.TransactionView;
+import br.dev.mission.simplewallet.model.TransactionStatus;
+import br.dev.mission.simplewallet.repository.transaction.TransactionSpecifications;
+import br.dev.mission.simplewallet.security.CurrentUser;
+import br.dev.mission.simplewallet.security.UserPrincipal;
+import br.dev.mission.simplewallet.service.transaction.TransactionExportService;
+import br.dev.mission.simplewallet.service.transaction.TransactionImportService;
 import br.dev.mission.simplewallet.service.transaction.TransactionService;
+import br.dev.mission.simplewallet.service.user.DataVersionService;
+import br.dev.mission.simplewallet.util.LocalDateConverter;
 
 @RestController
 @RequestMapping("/api/transactions")
 public class TransactionController {
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+
     @Autowired
     private TransactionService transactionService;
     @Autowired
-    private UserRepository userRepository;
-
-    private String getLoggedUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        return userRepository.findByUsername(username).map(user -> user.getId().toString())
-                .orElseThrow(() -> new RuntimeException("Usuário autenticado não encontrado"));
-    }
+    private TransactionExportService transactionExportService;
+    @Autowired
+    private TransactionImportService transactionImportService;
+    @Autowired
+    private DataVersionService dataVersionService;
 
     @PostMapping
-    public ResponseEntity<ApiResponse<TransactionResponse>> create(@RequestBody TransactionRequest request) {
-        String userId = getLoggedUserId();
+    public ResponseEntity<ApiResponse<TransactionResponse>> create(@CurrentUser UserPrincipal principal, @RequestBody TransactionRequest request) {
+        String userId = principal.userId();
         TransactionResponse response = transactionService.create(request, userId);
         return ResponseEntity.ok(new ApiResponse<>(201, "Transação criada com sucesso", response));
     }
 
+    /**
+     * Com view=compact, as linhas trazem só os ids e os nomes de conta,
+     * categoria e usuário vêm uma vez em references.
+     */
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<TransactionResponse>>> list(
+    public ResponseEntity<ApiResponse<?>> list(
+            @CurrentUser UserPrincipal principal,
             @RequestParam(value = "isParent", required = false, defaultValue = "false") boolean isParent,
-            Pageable pageable) {
-        String userId = getLoggedUserId();
-        Page<TransactionResponse> transactions;
+            @RequestParam(required = false) Long accountId,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Integer type,
+            @RequestParam(required = false) String dateFrom,
+            @RequestParam(required = false) String dateTo,
+            @RequestParam(required = false) String dateType,
+            @RequestParam(required = false) String description,
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String order,
+            @RequestParam(required = false) String view,
+            Pageable pageable, WebRequest webRequest) {
+        String userId = principal.userId();
+        boolean compact = TransactionView.fromParam(view) == TransactionView.COMPACT;
+        // Versão lida antes dos dados: 304 sem executar as consultas da página
+        String etag = dataVersionService.etag(userId, isParent);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        TransactionFilter filter = new TransactionFilter(accountId, categoryId, type,
+                LocalDateConverter.convertQueryParam(dateFrom), LocalDateConverter.convertQueryParam(dateTo),
+                dateType, description, username, TransactionStatus.fromParam(status));
+        Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                TransactionSpecifications.sort(sort, order));
 
-        if (isParent) {
-            transactions = transactionService.findByUserIdWithChildren(userId, pageable);
-        } else {
-            transactions = transactionService.findByUserId(userId, pageable);
+        Object transactions = compact
+                ? transactionService.findFilteredCompact(userId, isParent, filter, sortedPageable)
+                : transactionService.findFiltered(userId, isParent, filter, sortedPageable);
+
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate())
+                .body(new ApiResponse<>(200, "Transações encontradas", transactions));
+    }
+
+    /**
+     * Listagem por cursor, ativada pelo parâmetro after (vazio na primeira
+     * página). Ordena por (dueDate, id) e não calcula o total de registros.
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<ApiResponse<?>> listAfter(
+            @CurrentUser UserPrincipal principal,
+            @RequestParam(value = "isParent", required = false, defaultValue = "false") boolean isParent,
+            @RequestParam String after,
+            @RequestParam(required = false, defaultValue = "20") int size,
+            @RequestParam(required = false) Long accountId,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Integer type,
+            @RequestParam(required = false) String dateFrom,
+            @RequestParam(required = false) String dateTo,
+            @RequestParam(required = false) String dateType,
+            @RequestParam(required = false) String description,
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String order,
+            @RequestParam(required = false) String view,
+            WebRequest webRequest) {
+        String userId = principal.userId();
+        boolean compact = TransactionView.fromParam(view) == TransactionView.COMPACT;
+        String etag = dataVersionService.etag(userId, isParent);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
         }
+        TransactionFilter filter = new TransactionFilter(accountId, categoryId, type,
+                LocalDateConverter.convertQueryParam(dateFrom), LocalDateConverter.convertQueryParam(dateTo),
+                dateType, description, username, TransactionStatus.fromParam(status));
+        Sort.Direction direction = "desc".equalsIgnoreCase(order) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        TransactionCursor cursor = TransactionCursor.decode(after);
+        Object transactions = compact
+                ? transactionService.findAfterCompact(userId, isParent, filter, cursor, direction, pageSize)
+                : transactionService.findAfter(userId, isParent, filter, cursor, direction, pageSize);
+
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate())
+                .body(new ApiResponse<>(200, "Transações encontradas", transactions));
+    }
+
+    /**
+     * Quantidade e soma das transações pendentes, vencidas e liquidadas, com
+     * os mesmos filtros da listagem.
+     */
+    @GetMapping("/status-counts")
+    public ResponseEntity<ApiResponse<TransactionStatusCounts>> statusCounts(
+            @CurrentUser UserPrincipal principal,
+            @RequestParam(value = "isParent", required = false, defaultValue = "false") boolean isParent,
+            @RequestParam(required = false) Long accountId,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Integer type,
+            @RequestParam(required = false) String dateFrom,
+            @RequestParam(required = false) String dateTo,
+            @RequestParam(required = false) String dateType,
+            @RequestParam(required = false) String description,
+            @RequestParam(required = false) String username,
+            WebRequest webRequest) {
+        String userId = principal.userId();
+        String etag = dataVersionService.etag(userId, isParent);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        TransactionFilter filter = new TransactionFilter(accountId, categoryId, type,
+                LocalDateConverter.convertQueryParam(dateFrom), LocalDateConverter.convertQueryParam(dateTo),
+                dateType, description, username, null);
+
+        TransactionStatusCounts counts = transactionService.statusCounts(userId, isParent, filter);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate())
+                .body(new ApiResponse<>(200, "Totais por situação", counts));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @CurrentUser UserPrincipal principal,
+            @RequestParam(value = "isParent", required = false, defaultValue = "false") boolean isParent,
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) Long accountId,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Integer type,
+            @RequestParam(required = false) String dateFrom,
+            @RequestParam(required = false) String dateTo,
+            @RequestParam(required = false) String dateType,
+            @RequestParam(required = false) String description,
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String order) {
+        String userId = principal.userId();
+        TransactionExportFormat exportFormat = TransactionExportFormat.fromParam(format);
+        TransactionFilter filter = new TransactionFilter(accountId, categoryId, type,
+                LocalDateConverter.convertQueryParam(dateFrom), LocalDateConverter.convertQueryParam(dateTo),
+                dateType, description, username, TransactionStatus.fromParam(status));
+        Sort exportSort = TransactionSpecifications.sort(sort, order);
+
+        StreamingResponseBody body = outputStream -> transactionExportService.export(userId, isParent, filter,
+                exportSort, exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"transactions." + exportFormat.getExtension() + "\"")
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .body(body);
+    }
 
-        return ResponseEntity.ok(new ApiResponse<>(200, "Transações encontradas", transactions));
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<TransactionImportResponse>> importTransactions(
+            @CurrentUser UserPrincipal principal,
+            @RequestParam(required = false) String format, InputStream body) throws IOException {
+        String userId = principal.userId();
+        TransactionImportResponse response = transactionImportService.importTransactions(userId,
+                TransactionExportFormat.fromParam(format), body);
+        return ResponseEntity.ok(new ApiResponse<>(201, "Importação concluída", response));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<TransactionResponse>> getById(@PathVariable Long id) {
-        String userId = getLoggedUserId();
+    public ResponseEntity<ApiResponse<TransactionResponse>> getById(@CurrentUser UserPrincipal principal, @PathVariable Long id) {
+        String userId = principal.userId();
         return transactionService.findById(id, userId)
                 .map(tx -> ResponseEntity.ok(new ApiResponse<>(200, "Transação encontrada", tx)))
                 .orElse(ResponseEntity.ok(new ApiResponse<>(404, "Transação não encontrada", null)));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<ApiResponse<TransactionResponse>> update(@PathVariable Long id,
+    public ResponseEntity<ApiResponse<TransactionResponse>> update(@CurrentUser UserPrincipal principal, @PathVariable Long id,
             @RequestBody TransactionRequest request) {
-        String userId = getLoggedUserId();
+        String userId = principal.userId();
         return transactionService.update(id, request, userId)
                 .map(tx -> ResponseEntity.ok(new ApiResponse<>(200, "Transação atualizada", tx)))
                 .orElse(ResponseEntity.ok(new ApiResponse<>(404, "Transação não encontrada", null)));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<ApiResponse<Void>> delete(@PathVariable Long id) {
-        String userId = getLoggedUserId();
+    public ResponseEntity<ApiResponse<Void>> delete(@CurrentUser UserPrincipal principal, @PathVariable Long id) {
+        String userId = principal.userId();
         boolean deleted = transactionService.delete(id, userId);
         if (deleted) {
             return ResponseEntity.ok(new ApiResponse<>(200, "Transação removida com sucesso", null));
@@ -94,18 +257,69 @@ public class TransactionController {
     }
 
     @PatchMapping("/{id}/effective")
-    public ResponseEntity<ApiResponse<TransactionResponse>> effective(@PathVariable Long id,
+    public ResponseEntity<ApiResponse<TransactionResponse>> effective(@CurrentUser UserPrincipal principal, @PathVariable Long id,
             @RequestBody TransactionEffectivationRequest request) {
-        String userId = getLoggedUserId();
+        String userId = principal.userId();
         return transactionService.effective(id, request, userId)
                 .map(tx -> ResponseEntity.ok(new ApiResponse<>(200, "Transação efetivada com sucesso", tx)))
                 .orElse(ResponseEntity.ok(new ApiResponse<>(404, "Transação não encontrada", null)));
     }
 
+    /**
+     * Plano de um parcelamento ou empréstimo: lançamento de origem (parcela 0,
+     * quando houver) e parcelas, em ordem.
+     */
+    @GetMapping("/groups/{groupId}")
+    public ResponseEntity<ApiResponse<List<TransactionResponse>>> getGroup(@CurrentUser UserPrincipal principal,
+            @PathVariable UUID groupId) {
+        String userId = principal.userId();
+        List<TransactionResponse> group = transactionService.findGroup(groupId, userId);
+        if (group.isEmpty()) {
+            return ResponseEntity.ok(new ApiResponse<>(404, "Grupo não encontrado", null));
+        }
+        return ResponseEntity.ok(new ApiResponse<>(200, "Grupo encontrado", group));
+    }
+
+    @PatchMapping("/groups/{groupId}/settle")
+    public ResponseEntity<ApiResponse<List<TransactionResponse>>> settleGroup(@CurrentUser UserPrincipal principal,
+            @PathVariable UUID groupId, @RequestBody(required = false) TransactionGroupSettleRequest request) {
+        String userId = principal.userId();
+        List<TransactionResponse> group = transactionService.settleGroup(groupId,
+                request != null ? request.effectiveDate() : null, userId);
+        if (group.isEmpty()) {
+            return ResponseEntity.ok(new ApiResponse<>(404, "Grupo não encontrado", null));
+        }
+        return ResponseEntity.ok(new ApiResponse<>(200, "Parcelas liquidadas com sucesso", group));
+    }
+
+    @PatchMapping("/groups/{groupId}/reschedule")
+    public ResponseEntity<ApiResponse<List<TransactionResponse>>> rescheduleGroup(
+            @CurrentUser UserPrincipal principal, @PathVariable UUID groupId,
+            @RequestBody TransactionGroupRescheduleRequest request) {
+        String userId = principal.userId();
+        List<TransactionResponse> group = transactionService.rescheduleGroup(groupId, request.dueDate(), userId);
+        if (group.isEmpty()) {
+            return ResponseEntity.ok(new ApiResponse<>(404, "Grupo não encontrado", null));
+        }
+        return ResponseEntity.ok(new ApiResponse<>(200, "Parcelas reagendadas com sucesso", group));
+    }
+
+    @DeleteMapping("/groups/{groupId}")
+    public ResponseEntity<ApiResponse<Void>> deleteGroup(@CurrentUser UserPrincipal principal,
+            @PathVariable UUID groupId) {
+        String userId = principal.userId();
+        if (transactionService.deleteGroup(groupId, userId)) {
+            return ResponseEntity.ok(new ApiResponse<>(200, "Grupo removido com sucesso", null));
+        } else {
+            return ResponseEntity.ok(new ApiResponse<>(404, "Grupo não encontrado", null));
+        }
+    }
+
     @PostMapping("/batch")
     public ResponseEntity<ApiResponse<List<TransactionResponse>>> createBatch(
+            @CurrentUser UserPrincipal principal,
             @RequestBody TransactionRequestWithInstallment request) {
-        String userId = getLoggedUserId();
+        String userId = principal.userId();
         List<TransactionResponse> responses = transactionService.createBatch(request, userId);
         return ResponseEntity.ok(new ApiResponse<>(201, "Transações criadas com sucesso", responses));
     }
@@ -7,8 +7,6 @@ import java.util.UUID;
 
 import org.springframework.context.MessageSource;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -23,7 +21,8 @@ import br.dev.mission.simplewallet.dto.user.UserRequestUpdateChildParent;
 import br.dev.mission.simplewallet.dto.user.UserRequestUpdateParent;
 import br.dev.mission.simplewallet.dto.user.UserRequestUpdatePassword;
 import br.dev.mission.simplewallet.dto.user.UserResponse;
-import br.dev.mission.simplewallet.repository.user.UserRepository;
+import br.dev.mission.simplewallet.security.CurrentUser;
+import br.dev.mission.simplewallet.security.UserPrincipal;
 import br.dev.mission.simplewallet.service.user.UserService;
 import jakarta.validation.Valid;
 
@@ -33,29 +32,19 @@ public class UserController {
 
     private final UserService userService;
     private final MessageSource messageSource;
-    private final UserRepository userRepository;
 
-    public UserController(UserService userService, MessageSource messageSource, UserRepository userRepository) {
+    public UserController(UserService userService, MessageSource messageSource) {
         this.userService = userService;
         this.messageSource = messageSource;
-        this.userRepository = userRepository;
     }
 
     private String getMessage(String code) {
         return messageSource.getMessage(code, null, Locale.getDefault());
     }
 
-    private String getLoggedUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        return userRepository.findByUsername(username)
-                .map(user -> user.getId().toString())
-                .orElseThrow(() -> new RuntimeException("Usuário autenticado não encontrado"));
-    }
-
     @PutMapping("/me")
-    public ResponseEntity<ApiResponse<UserResponse>> updateUser(@RequestBody @Valid UserRequestUpdate request) {
-        String id = getLoggedUserId();
+    public ResponseEntity<ApiResponse<UserResponse>> updateUser(@CurrentUser UserPrincipal principal, @RequestBody @Valid UserRequestUpdate request) {
+        String id = principal.userId();
         UserRequestUpdate reqWithId = new UserRequestUpdate(id, request.username(), request.email(), request.name());
         UserResponse response = userService.update(reqWithId);
         ApiResponse<UserResponse> apiResponse = new ApiResponse<>(200, getMessage("user.update.success"), response);
@@ -63,8 +52,8 @@ public class UserController {
     }
 
     @PatchMapping("/me/parent")
-    public ResponseEntity<ApiResponse<UserResponse>> updateParent(@RequestBody @Valid UserRequestUpdateParent request) {
-        String id = getLoggedUserId();
+    public ResponseEntity<ApiResponse<UserResponse>> updateParent(@CurrentUser UserPrincipal principal, @RequestBody @Valid UserRequestUpdateParent request) {
+        String id = principal.userId();
         UserRequestUpdateParent reqWithId = new UserRequestUpdateParent(id, request.parentId());
         UserResponse response = userService.updateParent(reqWithId);
         ApiResponse<UserResponse> apiResponse = new ApiResponse<>(200, getMessage("user.parent.update.success"), response);
@@ -72,8 +61,8 @@ public class UserController {
     }
 
     @PatchMapping("/me/password")
-    public ResponseEntity<ApiResponse<UserResponse>> updatePassword(@RequestBody @Valid UserRequestUpdatePassword request) {
-        String id = getLoggedUserId();
+    public ResponseEntity<ApiResponse<UserResponse>> updatePassword(@CurrentUser UserPrincipal principal, @RequestBody @Valid UserRequestUpdatePassword request) {
+        String id = principal.userId();
         UserRequestUpdatePassword reqWithId = new UserRequestUpdatePassword(id, request.password());
         UserResponse response = userService.updatePassword(reqWithId);
         ApiResponse<UserResponse> apiResponse = new ApiResponse<>(200, getMessage("user.password.update.success"), response);
@@ -81,8 +70,8 @@ public class UserController {
     }
 
     @GetMapping("/me/parent")
-    public ResponseEntity<ApiResponse<List<UserResponse>>> getAllByLoggedUserAsParent() {
-        UUID parentId = UUID.fromString(getLoggedUserId());
+    public ResponseEntity<ApiResponse<List<UserResponse>>> getAllByLoggedUserAsParent(@CurrentUser UserPrincipal principal) {
+        UUID parentId = UUID.fromString(principal.userId());
         List<UserResponse> users = userService.findAllByParentId(parentId);
         ApiResponse<List<UserResponse>> apiResponse = new ApiResponse<>(200, getMessage("user.list.success"), users);
         return ResponseEntity.ok(apiResponse);
@@ -96,17 +85,17 @@ public class UserController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<ApiResponse<UserResponse>> getMe() {
-        String id = getLoggedUserId();
+    public ResponseEntity<ApiResponse<UserResponse>> getMe(@CurrentUser UserPrincipal principal) {
+        String id = principal.userId();
         return userService.findById(id)
                 .map(user -> ResponseEntity.ok(new ApiResponse<>(200, getMessage("user.found.success"), user)))
                 .orElse(ResponseEntity.ok(new ApiResponse<>(404, getMessage("user.notfound"), null)));
     }
 
     @PatchMapping("/{childId}/parent")
-    public ResponseEntity<ApiResponse<UserResponse>> updateChildParent(@PathVariable String childId, @RequestBody @Valid UserRequestUpdateChildParent request) {
+    public ResponseEntity<ApiResponse<UserResponse>> updateChildParent(@CurrentUser UserPrincipal principal, @PathVariable String childId, @RequestBody @Valid UserRequestUpdateChildParent request) {
         UUID parentId = request.parentId();
-        String loggedUserId = getLoggedUserId();
+        String loggedUserId = principal.userId();
         
         if (parentId == null) {
             Optional<UserResponse> childUser = userService.findById(childId);
@@ -6,6 +6,8 @@ public record AccountResponse(
     Long id,
     String description,
     BigDecimal balance,
+    BigDecimal currentBalance,
+    BigDecimal projectedBalance,
     BigDecimal credit,
     Integer dueDate,
     String userId,
@@ -3,6 +3,7 @@ package br.dev.mission.simplewallet.dto.loan;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 
 public record LoanResponse(
     Long id,
@@ -18,6 +19,7 @@ public record LoanResponse(
     String category,
     String userId,
     String username,
+    UUID groupId,
     List<InstallmentResponse> installments
 ) {
     public record InstallmentResponse(
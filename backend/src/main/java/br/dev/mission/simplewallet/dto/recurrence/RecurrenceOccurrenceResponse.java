@@ -0,0 +1,19 @@
+package br.dev.mission.simplewallet.dto.recurrence;
+
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import br.dev.mission.simplewallet.dto.transaction.TransactionResponse;
+import br.dev.mission.simplewallet.util.LocalDateConverter;
+
+/**
+ * Uma ocorrência da regra na data prevista. Enquanto não materializada, a
+ * transação vem com id nulo e os valores da regra.
+ */
+public record RecurrenceOccurrenceResponse(
+    Long recurrenceId,
+    @JsonFormat(pattern = LocalDateConverter.DATE_FORMAT) LocalDate occurrenceDate,
+    boolean materialized,
+    TransactionResponse transaction
+) {}
@@ -0,0 +1,24 @@
+package br.dev.mission.simplewallet.dto.recurrence;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import br.dev.mission.simplewallet.util.LocalDateConverter;
+
+/**
+ * Regra de recorrência: frequency é WEEKLY, MONTHLY ou YEARLY. Sem endDate e
+ * sem occurrences, a regra não tem fim.
+ */
+public record RecurrenceRequest(
+    String description,
+    BigDecimal amount,
+    Integer type,
+    String frequency,
+    @JsonFormat(pattern = LocalDateConverter.DATE_FORMAT) LocalDate startDate,
+    @JsonFormat(pattern = LocalDateConverter.DATE_FORMAT) LocalDate endDate,
+    Integer occurrences,
+    Long accountId,
+    Long categoryId
+) {}
@@ -0,0 +1,21 @@
+package br.dev.mission.simplewallet.dto.recurrence;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import br.dev.mission.simplewallet.util.LocalDateConverter;
+
+public record RecurrenceResponse(
+    Long id,
+    String description,
+    BigDecimal amount,
+    Integer type,
+    String frequency,
+    @JsonFormat(pattern = LocalDateConverter.DATE_FORMAT) LocalDate startDate,
+    @JsonFormat(pattern = LocalDateConverter.DATE_FORMAT) LocalDate endDate,
+    Integer occurrences,
+    Long accountId,
+    Long categoryId
+) {}
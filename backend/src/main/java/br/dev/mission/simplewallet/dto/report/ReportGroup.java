@@ -0,0 +1,23 @@
+package br.dev.mission.simplewallet.dto.report;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+public enum ReportGroup {
+    MONTH, CATEGORY, ACCOUNT, TYPE, USER;
+
+    public static Set<ReportGroup> parse(String groupBy) {
+        Set<ReportGroup> groups = EnumSet.noneOf(ReportGroup.class);
+        if (groupBy == null || groupBy.isBlank()) {
+            groups.add(MONTH);
+            return groups;
+        }
+        for (String value : groupBy.split(",")) {
+            if (!value.isBlank()) {
+                groups.add(valueOf(value.trim().toUpperCase(Locale.ROOT)));
+            }
+        }
+        return groups;
+    }
+}
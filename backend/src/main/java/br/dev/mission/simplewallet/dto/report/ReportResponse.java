@@ -0,0 +1,9 @@
+package br.dev.mission.simplewallet.dto.report;
+
+import java.util.List;
+import java.util.Set;
+
+public record ReportResponse(
+    Set<ReportGroup> groupBy,
+    List<ReportRow> rows
+) {}
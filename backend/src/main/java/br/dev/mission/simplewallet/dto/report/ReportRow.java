@@ -0,0 +1,30 @@
+package br.dev.mission.simplewallet.dto.report;
+
+import java.math.BigDecimal;
+
+/**
+ * Uma linha agregada do relatório. Apenas as dimensões presentes em groupBy
+ * são preenchidas; as demais vêm nulas. income e expense são valores
+ * absolutos; paid (efetivadas) e pending (em aberto) são líquidos, com as
+ * despesas subtraindo, como nos saldos das contas.
+ */
+public record ReportRow(
+    String month,
+    Long accountId,
+    String account,
+    Long categoryId,
+    String category,
+    Integer type,
+    String userId,
+    String username,
+    long count,
+    BigDecimal income,
+    BigDecimal expense,
+    BigDecimal paid,
+    BigDecimal pending
+) {
+    public ReportRow withNames(String account, String category, String username) {
+        return new ReportRow(month, accountId, account, categoryId, category, type, userId, username,
+                count, income, expense, paid, pending);
+    }
+}
@@ -0,0 +1,12 @@
+package br.dev.mission.simplewallet.dto.transaction;
+
+import java.util.List;
+
+public record CompactTransactionPage(
+    List<CompactTransactionResponse> content,
+    TransactionReferences references,
+    int number,
+    int size,
+    long totalElements,
+    int totalPages
+) {}
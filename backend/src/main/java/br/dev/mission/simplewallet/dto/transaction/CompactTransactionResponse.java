@@ -0,0 +1,29 @@
+package br.dev.mission.simplewallet.dto.transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import br.dev.mission.simplewallet.util.LocalDateConverter;
+
+/**
+ * Linha de TransactionResponse sem os nomes; accountId, categoryId e userId
+ * são resolvidos pelo TransactionReferences que acompanha a lista.
+ */
+public record CompactTransactionResponse(
+    Long id,
+    String description,
+    BigDecimal amount,
+    Integer type,
+    @JsonFormat(pattern = LocalDateConverter.DATE_FORMAT) LocalDate dueDate,
+    @JsonFormat(pattern = LocalDateConverter.DATE_FORMAT) LocalDate effectiveDate,
+    BigDecimal effectiveAmount,
+    Long accountId,
+    Long categoryId,
+    String userId,
+    String status,
+    UUID groupId,
+    Integer installmentNumber
+) {}
@@ -0,0 +1,11 @@
+package br.dev.mission.simplewallet.dto.transaction;
+
+import java.util.List;
+
+public record CompactTransactionSlice(
+    List<CompactTransactionResponse> content,
+    TransactionReferences references,
+    int size,
+    boolean hasNext,
+    String nextCursor
+) {}
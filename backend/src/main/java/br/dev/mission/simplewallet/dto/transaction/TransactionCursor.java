@@ -0,0 +1,42 @@
+package br.dev.mission.simplewallet.dto.transaction;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import br.dev.mission.simplewallet.model.Transaction;
+
+/**
+ * Posição opaca da listagem por cursor: o (dueDate, id) da última transação
+ * entregue. O cliente só devolve o valor recebido em nextCursor.
+ */
+public record TransactionCursor(LocalDate dueDate, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static TransactionCursor of(Transaction transaction) {
+        return new TransactionCursor(transaction.getDueDate(), transaction.getId());
+    }
+
+    /** Cursor vazio significa primeira página. */
+    public static TransactionCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value.trim()), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            String date = raw.substring(0, separator);
+            return new TransactionCursor(date.isEmpty() ? null : LocalDate.parse(date),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + value, e);
+        }
+    }
+
+    public String encode() {
+        String raw = (dueDate != null ? dueDate.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
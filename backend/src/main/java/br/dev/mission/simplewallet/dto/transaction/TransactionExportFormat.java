@@ -0,0 +1,31 @@
+package br.dev.mission.simplewallet.dto.transaction;
+
+import java.util.Locale;
+
+public enum TransactionExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    TransactionExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static TransactionExportFormat fromParam(String format) {
+        if (format == null || format.isBlank()) {
+            return CSV;
+        }
+        return valueOf(format.trim().toUpperCase(Locale.ROOT));
+    }
+}
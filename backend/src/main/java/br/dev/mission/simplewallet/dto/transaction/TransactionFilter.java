@@ -0,0 +1,21 @@
+package br.dev.mission.simplewallet.dto.transaction;
+
+import java.time.LocalDate;
+
+import br.dev.mission.simplewallet.model.TransactionStatus;
+
+public record TransactionFilter(
+    Long accountId,
+    Long categoryId,
+    Integer type,
+    LocalDate dateFrom,
+    LocalDate dateTo,
+    String dateType,
+    String description,
+    String username,
+    TransactionStatus status
+) {
+    public static TransactionFilter empty() {
+        return new TransactionFilter(null, null, null, null, null, null, null, null, null);
+    }
+}
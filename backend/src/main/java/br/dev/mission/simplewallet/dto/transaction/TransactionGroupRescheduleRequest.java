@@ -0,0 +1,14 @@
+package br.dev.mission.simplewallet.dto.transaction;
+
+import java.time.LocalDate;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import br.dev.mission.simplewallet.util.LocalDateConverter;
+
+/**
+ * Novo vencimento da primeira parcela em aberto; as seguintes vencem mês a
+ * mês a partir dele.
+ */
+public record TransactionGroupRescheduleRequest(
+    @JsonFormat(pattern = LocalDateConverter.DATE_FORMAT) LocalDate dueDate
+) {}
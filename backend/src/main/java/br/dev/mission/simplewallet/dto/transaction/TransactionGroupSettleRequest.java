@@ -0,0 +1,14 @@
+package br.dev.mission.simplewallet.dto.transaction;
+
+import java.time.LocalDate;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import br.dev.mission.simplewallet.util.LocalDateConverter;
+
+/**
+ * Liquidação das parcelas em aberto de um grupo; sem effectiveDate, vale a
+ * data corrente.
+ */
+public record TransactionGroupSettleRequest(
+    @JsonFormat(pattern = LocalDateConverter.DATE_FORMAT) LocalDate effectiveDate
+) {}
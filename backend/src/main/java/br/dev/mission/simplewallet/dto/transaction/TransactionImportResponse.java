@@ -0,0 +1,15 @@
+package br.dev.mission.simplewallet.dto.transaction;
+
+import java.util.List;
+
+public record TransactionImportResponse(
+    long total,
+    long imported,
+    long failed,
+    List<RowError> errors
+) {
+    public record RowError(
+        long row,
+        String message
+    ) {}
+}
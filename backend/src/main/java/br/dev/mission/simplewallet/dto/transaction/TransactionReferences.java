@@ -0,0 +1,17 @@
+package br.dev.mission.simplewallet.dto.transaction;
+
+import java.util.Map;
+
+/**
+ * Nomes das contas, categorias e usuários referenciados por uma lista de
+ * transações, indexados pelo id, uma entrada por entidade.
+ */
+public record TransactionReferences(
+    Map<Long, String> accounts,
+    Map<Long, String> categories,
+    Map<String, String> users
+) {
+    public static TransactionReferences empty() {
+        return new TransactionReferences(Map.of(), Map.of(), Map.of());
+    }
+}
@@ -2,6 +2,8 @@ package br.dev.mission.simplewallet.dto.transaction;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.UUID;
+
 import com.fasterxml.jackson.annotation.JsonFormat;
 
 import br.dev.mission.simplewallet.util.LocalDateConverter;
@@ -20,5 +22,7 @@ public record TransactionResponse(
     String category,
     String userId,
     String username,
-    String status
+    String status,
+    UUID groupId,
+    Integer installmentNumber
 ) {}
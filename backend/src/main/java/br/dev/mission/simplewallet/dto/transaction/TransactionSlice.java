@@ -0,0 +1,10 @@
+package br.dev.mission.simplewallet.dto.transaction;
+
+import java.util.List;
+
+public record TransactionSlice(
+    List<TransactionResponse> content,
+    int size,
+    boolean hasNext,
+    String nextCursor
+) {}
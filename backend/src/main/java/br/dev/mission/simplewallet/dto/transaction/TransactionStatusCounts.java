@@ -0,0 +1,16 @@
+package br.dev.mission.simplewallet.dto.transaction;
+
+import java.math.BigDecimal;
+
+/**
+ * Quantidade e soma das transações em cada situação. O total das liquidadas
+ * usa o valor efetivado, quando informado.
+ */
+public record TransactionStatusCounts(
+    StatusTotal pending,
+    StatusTotal overdue,
+    StatusTotal liquidated
+) {
+    public record StatusTotal(long count, BigDecimal total) {
+    }
+}
@@ -0,0 +1,19 @@
+package br.dev.mission.simplewallet.dto.transaction;
+
+import java.util.Locale;
+
+/**
+ * Formato das listagens: FULL repete os nomes de conta, categoria e usuário
+ * em cada linha; COMPACT manda só os ids, com os nomes uma vez em references.
+ */
+public enum TransactionView {
+    FULL,
+    COMPACT;
+
+    public static TransactionView fromParam(String view) {
+        if (view == null || view.isBlank()) {
+            return FULL;
+        }
+        return valueOf(view.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,11 @@
+package br.dev.mission.simplewallet.exception;
+
+/**
+ * Recurso limitado (ex.: pool de hash de senhas) sem capacidade no momento.
+ * Vira 503 com Retry-After para o cliente tentar de novo.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -3,8 +3,16 @@ package br.dev.mission.simplewallet.mapper.account;
 import br.dev.mission.simplewallet.dto.account.AccountRequest;
 import br.dev.mission.simplewallet.dto.account.AccountResponse;
 import br.dev.mission.simplewallet.model.Account;
+import br.dev.mission.simplewallet.model.AccountBalance;
+import br.dev.mission.simplewallet.repository.account.AccountBalanceRepository;
 import br.dev.mission.simplewallet.repository.user.UserRepository;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -12,6 +20,9 @@ import org.springframework.stereotype.Component;
 public class AccountMapper {
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private AccountBalanceRepository accountBalanceRepository;
+
     public Account toEntity(AccountRequest request, String userId) {
         Account account = new Account();
         account.setDescription(request.description());
@@ -23,6 +34,26 @@ public class AccountMapper {
     }
 
     public AccountResponse toResponse(Account account) {
+        return toResponse(account, accountBalanceRepository.findById(account.getId()).orElse(null));
+    }
+
+    /** Os somatórios de todas as contas da lista vêm de uma única consulta. */
+    public List<AccountResponse> toResponseList(List<Account> accounts) {
+        Map<Long, AccountBalance> balances = accountBalanceRepository
+            .findAllById(accounts.stream().map(Account::getId).toList())
+            .stream()
+            .collect(Collectors.toMap(AccountBalance::getAccountId, Function.identity()));
+        return accounts.stream().map(account -> toResponse(account, balances.get(account.getId()))).toList();
+    }
+
+    private AccountResponse toResponse(Account account, AccountBalance totals) {
+        // Saldo atual = inicial + efetivadas; previsto = atual + pendentes
+        BigDecimal currentBalance = account.getBalance();
+        BigDecimal projectedBalance = account.getBalance();
+        if (totals != null) {
+            currentBalance = currentBalance.add(totals.getEffectiveTotal());
+            projectedBalance = currentBalance.add(totals.getPendingTotal());
+        }
         String username = null;
         if (account.getUserId() != null) {
             username = userRepository.findById(java.util.UUID.fromString(account.getUserId()))
@@ -33,6 +64,8 @@ public class AccountMapper {
             account.getId(),
             account.getDescription(),
             account.getBalance(),
+            currentBalance,
+            projectedBalance,
             account.getCredit(),
             account.getDueDate(),
             account.getUserId(),
@@ -0,0 +1,65 @@
+package br.dev.mission.simplewallet.mapper.recurrence;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+import org.springframework.stereotype.Component;
+
+import br.dev.mission.simplewallet.dto.recurrence.RecurrenceRequest;
+import br.dev.mission.simplewallet.dto.recurrence.RecurrenceResponse;
+import br.dev.mission.simplewallet.model.RecurrenceFrequency;
+import br.dev.mission.simplewallet.model.RecurrenceRule;
+import br.dev.mission.simplewallet.model.Transaction;
+import br.dev.mission.simplewallet.model.TransactionType;
+
+@Component
+public class RecurrenceMapper {
+
+    public RecurrenceRule toEntity(RecurrenceRequest request, String userId) {
+        RecurrenceRule rule = new RecurrenceRule();
+        rule.setDescription(request.description());
+        rule.setAmount(request.amount());
+        rule.setType(TransactionType.fromCode(request.type()));
+        rule.setFrequency(RecurrenceFrequency.valueOf(request.frequency().trim().toUpperCase(Locale.ROOT)));
+        rule.setStartDate(request.startDate());
+        rule.setEndDate(request.endDate());
+        rule.setOccurrences(request.occurrences());
+        rule.setAccountId(request.accountId());
+        rule.setCategory(request.categoryId());
+        rule.setUserId(userId);
+        return rule;
+    }
+
+    public RecurrenceResponse toResponse(RecurrenceRule rule) {
+        return new RecurrenceResponse(
+            rule.getId(),
+            rule.getDescription(),
+            rule.getAmount(),
+            rule.getType().getCode(),
+            rule.getFrequency().name(),
+            rule.getStartDate(),
+            rule.getEndDate(),
+            rule.getOccurrences(),
+            rule.getAccountId(),
+            rule.getCategory()
+        );
+    }
+
+    /**
+     * Ocorrência ainda não materializada: uma transação não persistida com os
+     * valores da regra e vencimento na data prevista.
+     */
+    public Transaction toOccurrence(RecurrenceRule rule, LocalDate date) {
+        Transaction transaction = new Transaction();
+        transaction.setDescription(rule.getDescription());
+        transaction.setAmount(rule.getAmount());
+        transaction.setType(rule.getType());
+        transaction.setDueDate(date);
+        transaction.setAccountId(rule.getAccountId());
+        transaction.setCategory(rule.getCategory());
+        transaction.setUserId(rule.getUserId());
+        transaction.setRecurrenceId(rule.getId());
+        transaction.setRecurrenceDate(date);
+        return transaction;
+    }
+}
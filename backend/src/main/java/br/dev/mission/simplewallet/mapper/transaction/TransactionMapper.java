@@ -1,18 +1,40 @@
 package br.dev.mission.simplewallet.mapper.transaction;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.stereotype.Component;
 
+import br.dev.mission.simplewallet.dto.transaction.CompactTransactionPage;
+import br.dev.mission.simplewallet.dto.transaction.CompactTransactionResponse;
+import br.dev.mission.simplewallet.dto.transaction.TransactionReferences;
 import br.dev.mission.simplewallet.dto.transaction.TransactionRequest;
 import br.dev.mission.simplewallet.dto.transaction.TransactionResponse;
+import br.dev.mission.simplewallet.model.Account;
+import br.dev.mission.simplewallet.model.Category;
 import br.dev.mission.simplewallet.model.Transaction;
 import br.dev.mission.simplewallet.model.TransactionType;
+import br.dev.mission.simplewallet.model.User;
 import br.dev.mission.simplewallet.repository.account.AccountRepository;
 import br.dev.mission.simplewallet.repository.category.CategoryRepository;
 import br.dev.mission.simplewallet.repository.user.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Component
+@Timed("wallet.transactions.mapper")
 public class TransactionMapper {
+    private static final String LOOKUPS_METRIC = "wallet.transactions.mapper.lookups";
+
     @Autowired
     private AccountRepository accountRepository;
 
@@ -22,6 +44,9 @@ public class TransactionMapper {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     public Transaction toEntity(TransactionRequest request, String userId) {
         Transaction transaction = new Transaction();
         transaction.setDescription(request.description());
@@ -39,22 +64,94 @@ public class TransactionMapper {
     public TransactionResponse toResponse(Transaction transaction) {
         String account = null;
         if (transaction.getAccountId() != null) {
+            countLookup("account", "single");
             account = accountRepository.findById(transaction.getAccountId())
                 .map(acc -> acc.getDescription())
                 .orElse(null);
         }
         String category = null;
         if (transaction.getCategory() != null) {
+            countLookup("category", "single");
             category = categoryRepository.findById(transaction.getCategory())
                 .map(cat -> cat.getCategory())
                 .orElse(null);
         }
         String username = null;
         if (transaction.getUserId() != null) {
-            username = userRepository.findById(java.util.UUID.fromString(transaction.getUserId()))
+            countLookup("user", "single");
+            username = userRepository.findById(UUID.fromString(transaction.getUserId()))
                 .map(user -> user.getUsername())
                 .orElse(null);
         }
+        return toResponse(transaction, account, category, username);
+    }
+
+    /**
+     * Mapeia uma lista inteira resolvendo os nomes de conta, categoria e usuário
+     * com uma única consulta por entidade, em vez de três consultas por linha.
+     */
+    public List<TransactionResponse> toResponseList(List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return List.of();
+        }
+        TransactionReferences references = references(transactions);
+        return transactions.stream()
+                .map(tx -> toResponse(tx,
+                        tx.getAccountId() != null ? references.accounts().get(tx.getAccountId()) : null,
+                        tx.getCategory() != null ? references.categories().get(tx.getCategory()) : null,
+                        tx.getUserId() != null ? references.users().get(tx.getUserId()) : null))
+                .toList();
+    }
+
+    public Page<TransactionResponse> toResponsePage(Page<Transaction> page) {
+        return new PageImpl<>(toResponseList(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    /**
+     * Nomes referenciados pela lista, com as mesmas três consultas em lote de
+     * toResponseList.
+     */
+    public TransactionReferences references(List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return TransactionReferences.empty();
+        }
+        countLookup("account", "bulk");
+        countLookup("category", "bulk");
+        countLookup("user", "bulk");
+        Map<Long, String> accounts = accountRepository
+                .findAllById(distinct(transactions, Transaction::getAccountId)).stream()
+                .collect(Collectors.toMap(Account::getId, Account::getDescription));
+        Map<Long, String> categories = categoryRepository
+                .findAllById(distinct(transactions, Transaction::getCategory)).stream()
+                .collect(Collectors.toMap(Category::getId, Category::getCategory));
+        Map<String, String> usernames = userRepository
+                .findAllById(distinct(transactions, tx -> tx.getUserId() == null ? null : UUID.fromString(tx.getUserId())))
+                .stream()
+                .collect(Collectors.toMap(user -> user.getId().toString(), User::getUsername));
+        return new TransactionReferences(accounts, categories, usernames);
+    }
+
+    public List<CompactTransactionResponse> toCompactList(List<Transaction> transactions) {
+        return transactions.stream().map(this::toCompactResponse).toList();
+    }
+
+    public CompactTransactionPage toCompactPage(Page<Transaction> page) {
+        return new CompactTransactionPage(toCompactList(page.getContent()), references(page.getContent()),
+                page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages());
+    }
+
+    public void updateEntity(Transaction transaction, TransactionRequest request) {
+        transaction.setDescription(request.description());
+        transaction.setAmount(request.amount());
+        transaction.setType(TransactionType.fromCode(request.type()));
+        transaction.setDueDate(request.dueDate());
+        transaction.setEffectiveDate(request.effectiveDate());
+        transaction.setAccountId(request.accountId());
+        transaction.setCategory(request.categoryId());
+        transaction.setEffectiveAmount(request.effectiveAmount());
+    }
+
+    public TransactionResponse toResponse(Transaction transaction, String account, String category, String username) {
         return new TransactionResponse(
             transaction.getId(),
             transaction.getDescription(),
@@ -69,18 +166,35 @@ public class TransactionMapper {
             category,
             transaction.getUserId(),
             username,
-            transaction.getStatus()
+            transaction.getStatus(),
+            transaction.getGroupId(),
+            transaction.getInstallmentNumber()
         );
     }
 
-    public void updateEntity(Transaction transaction, TransactionRequest request) {
-        transaction.setDescription(request.description());
-        transaction.setAmount(request.amount());
-        transaction.setType(TransactionType.fromCode(request.type()));
-        transaction.setDueDate(request.dueDate());
-        transaction.setEffectiveDate(request.effectiveDate());
-        transaction.setAccountId(request.accountId());
-        transaction.setCategory(request.categoryId());
-        transaction.setEffectiveAmount(request.effectiveAmount());
+    public CompactTransactionResponse toCompactResponse(Transaction transaction) {
+        return new CompactTransactionResponse(
+            transaction.getId(),
+            transaction.getDescription(),
+            transaction.getAmount(),
+            transaction.getType() != null ? transaction.getType().getCode() : null,
+            transaction.getDueDate(),
+            transaction.getEffectiveDate(),
+            transaction.getEffectiveAmount(),
+            transaction.getAccountId(),
+            transaction.getCategory(),
+            transaction.getUserId(),
+            transaction.getStatus(),
+            transaction.getGroupId(),
+            transaction.getInstallmentNumber()
+        );
+    }
+
+    private void countLookup(String entity, String mode) {
+        meterRegistry.counter(LOOKUPS_METRIC, "entity", entity, "mode", mode).increment();
+    }
+
+    private static <K> Set<K> distinct(Collection<Transaction> transactions, Function<Transaction, K> key) {
+        return transactions.stream().map(key).filter(Objects::nonNull).collect(Collectors.toSet());
     }
 }
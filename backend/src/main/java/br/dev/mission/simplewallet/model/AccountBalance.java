@@ -0,0 +1,72 @@
+package br.dev.mission.simplewallet.model;
+
+import java.math.BigDecimal;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+/**
+ * Somatórios de saldo de uma conta, mantidos pelo AccountBalanceService via
+ * UPDATE incremental. Ficam fora de tb_accounts (e sem cache de segundo nível)
+ * para que cada escrita de transação não invalide a região de contas nem as
+ * consultas em cache sobre ela.
+ */
+@Entity
+@Table(name = "tb_account_balances")
+public class AccountBalance implements Persistable<Long> {
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Column(name = "effective_total", nullable = false)
+    private BigDecimal effectiveTotal = BigDecimal.ZERO;
+
+    @Column(name = "pending_total", nullable = false)
+    private BigDecimal pendingTotal = BigDecimal.ZERO;
+
+    // ID atribuído: sem isto o save() faria um SELECT antes do INSERT
+    @Transient
+    private boolean isNew = true;
+
+    public AccountBalance() {
+    }
+
+    public AccountBalance(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public Long getId() {
+        return accountId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public BigDecimal getEffectiveTotal() {
+        return effectiveTotal;
+    }
+
+    public BigDecimal getPendingTotal() {
+        return pendingTotal;
+    }
+}
@@ -0,0 +1,62 @@
+package br.dev.mission.simplewallet.model;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+/**
+ * Versão dos dados de um usuário (contas, categorias e transações). Só cresce;
+ * o valor em si não tem significado além de mudar a cada escrita.
+ */
+@Entity
+@Table(name = "tb_data_versions")
+public class DataVersion implements Persistable<String> {
+    @Id
+    @Column(name = "user_id")
+    private String userId;
+
+    @Column(nullable = false)
+    private long version;
+
+    // ID atribuído: sem isto o save() faria um SELECT antes do INSERT
+    @Transient
+    private boolean isNew = true;
+
+    public DataVersion() {
+    }
+
+    public DataVersion(String userId, long version) {
+        this.userId = userId;
+        this.version = version;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public String getId() {
+        return userId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
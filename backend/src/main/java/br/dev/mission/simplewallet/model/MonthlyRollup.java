@@ -0,0 +1,146 @@
+package br.dev.mission.simplewallet.model;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Totais mensais de transações por (usuário, mês de vencimento, conta,
+ * categoria, tipo), mantidos a cada escrita em tb_transactions.
+ */
+@Entity
+@Table(name = "tb_monthly_rollups", uniqueConstraints = @UniqueConstraint(name = "uk_monthly_rollups_key",
+        columnNames = { "user_id", "year_month", "account_id", "category", "type" }))
+public class MonthlyRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    // yyyy-MM do dueDate
+    @Column(name = "year_month", nullable = false, length = 7)
+    private String yearMonth;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(nullable = false)
+    private Long category;
+
+    @Enumerated(EnumType.ORDINAL)
+    @Column(nullable = false)
+    private TransactionType type;
+
+    @Column(name = "tx_count", nullable = false)
+    private long count;
+
+    @Column(nullable = false)
+    private BigDecimal income;
+
+    @Column(nullable = false)
+    private BigDecimal expense;
+
+    @Column(nullable = false)
+    private BigDecimal paid;
+
+    @Column(nullable = false)
+    private BigDecimal pending;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getYearMonth() {
+        return yearMonth;
+    }
+
+    public void setYearMonth(String yearMonth) {
+        this.yearMonth = yearMonth;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public Long getCategory() {
+        return category;
+    }
+
+    public void setCategory(Long category) {
+        this.category = category;
+    }
+
+    public TransactionType getType() {
+        return type;
+    }
+
+    public void setType(TransactionType type) {
+        this.type = type;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public BigDecimal getIncome() {
+        return income;
+    }
+
+    public void setIncome(BigDecimal income) {
+        this.income = income;
+    }
+
+    public BigDecimal getExpense() {
+        return expense;
+    }
+
+    public void setExpense(BigDecimal expense) {
+        this.expense = expense;
+    }
+
+    public BigDecimal getPaid() {
+        return paid;
+    }
+
+    public void setPaid(BigDecimal paid) {
+        this.paid = paid;
+    }
+
+    public BigDecimal getPending() {
+        return pending;
+    }
+
+    public void setPending(BigDecimal pending) {
+        this.pending = pending;
+    }
+}
@@ -0,0 +1,42 @@
+package br.dev.mission.simplewallet.model;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Data excluída de uma regra de recorrência: a ocorrência foi removida e não
+ * volta mais na expansão, materializada ou não.
+ */
+@Entity
+@Table(name = "tb_recurrence_exceptions", uniqueConstraints = @UniqueConstraint(
+        name = "uk_recurrence_exceptions_key", columnNames = { "recurrence_id", "exception_date" }))
+public class RecurrenceException {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recurrence_id", nullable = false)
+    private Long recurrenceId;
+
+    @Column(name = "exception_date", nullable = false)
+    private LocalDate exceptionDate;
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getRecurrenceId() {
+        return recurrenceId;
+    }
+
+    public LocalDate getExceptionDate() {
+        return exceptionDate;
+    }
+}
@@ -0,0 +1,36 @@
+package br.dev.mission.simplewallet.model;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+public enum RecurrenceFrequency {
+    WEEKLY(ChronoUnit.WEEKS), MONTHLY(ChronoUnit.MONTHS), YEARLY(ChronoUnit.YEARS);
+
+    private final ChronoUnit unit;
+
+    RecurrenceFrequency(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * Data da n-ésima ocorrência (a partir de 0). Sempre calculada a partir do
+     * início, para que um dia 31 não "escorregue" depois de um mês mais curto.
+     */
+    public LocalDate occurrence(LocalDate start, long index) {
+        return start.plus(index, unit);
+    }
+
+    /**
+     * Índice da primeira ocorrência em ou depois de date.
+     */
+    public long firstIndexFrom(LocalDate start, LocalDate date) {
+        if (!date.isAfter(start)) {
+            return 0;
+        }
+        long index = unit.between(start, date);
+        while (occurrence(start, index).isBefore(date)) {
+            index++;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,75 @@
+package br.dev.mission.simplewallet.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Revogação de access tokens: de um token (jti) ou de todos os tokens do
+ * usuário emitidos antes de revokedAt. Depois de expiresAt não revoga mais nada.
+ */
+@Entity
+@Table(name = "tb_token_revocations",
+        indexes = @Index(name = "idx_token_revocations_expires_at", columnList = "expires_at"))
+public class TokenRevocation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "jti", length = 36)
+    private String jti;
+
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    public TokenRevocation() {
+    }
+
+    private TokenRevocation(String jti, UUID userId, Instant revokedAt, Instant expiresAt) {
+        this.jti = jti;
+        this.userId = userId;
+        this.revokedAt = revokedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public static TokenRevocation ofToken(String jti, Instant revokedAt, Instant expiresAt) {
+        return new TokenRevocation(jti, null, revokedAt, expiresAt);
+    }
+
+    public static TokenRevocation ofUser(UUID userId, Instant revokedAt, Instant expiresAt) {
+        return new TokenRevocation(null, userId, revokedAt, expiresAt);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getJti() {
+        return jti;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public Instant getRevokedAt() {
+        return revokedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -3,6 +3,7 @@ package br.dev.mission.simplewallet.model;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 
@@ -14,15 +15,26 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 @Entity
-@Table(name = "tb_transactions")
+@Table(name = "tb_transactions", indexes = {
+        @Index(name = "idx_transactions_user_due_date", columnList = "user_id, due_date, id"),
+        @Index(name = "idx_transactions_user_account_due_date", columnList = "user_id, account_id, due_date"),
+        @Index(name = "idx_transactions_user_category_due_date", columnList = "user_id, category, due_date"),
+        @Index(name = "idx_transactions_user_effective_date", columnList = "user_id, effective_date")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_transactions_recurrence_date", columnNames = { "recurrence_id", "recurrence_date" })
+})
 public class Transaction {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_seq")
+    @SequenceGenerator(name = "transaction_seq", sequenceName = "tb_transactions_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "due_date")
@@ -59,18 +71,26 @@ public class Transaction {
     private Long accountId;
 
     public String getStatus() {
-        if (this.effectiveDate != null) {
-            return "liquidated";
-        }
-        if (this.dueDate != null && this.dueDate.isBefore(java.time.LocalDate.now())) {
-            return "overdue";
-        }
-        return "pending";
+        return TransactionStatus.of(this.effectiveDate, this.dueDate, LocalDate.now()).getValue();
     }
 
     @Column(name = "user_id", nullable = false)
     private String userId;
 
+    // Preenchidos quando a transação é uma ocorrência materializada de uma RecurrenceRule
+    @Column(name = "recurrence_id")
+    private Long recurrenceId;
+
+    @Column(name = "recurrence_date")
+    private LocalDate recurrenceDate;
+
+    // Parcelamento ou empréstimo: parcelas 1..n; 0 é o lançamento de origem (crédito do empréstimo)
+    @Column(name = "group_id")
+    private UUID groupId;
+
+    @Column(name = "installment_number")
+    private Integer installmentNumber;
+
     public Long getId() {
         return id;
     }
@@ -167,6 +187,38 @@ public class Transaction {
         this.category = category;
     }
 
+    public Long getRecurrenceId() {
+        return recurrenceId;
+    }
+
+    public void setRecurrenceId(Long recurrenceId) {
+        this.recurrenceId = recurrenceId;
+    }
+
+    public LocalDate getRecurrenceDate() {
+        return recurrenceDate;
+    }
+
+    public void setRecurrenceDate(LocalDate recurrenceDate) {
+        this.recurrenceDate = recurrenceDate;
+    }
+
+    public UUID getGroupId() {
+        return groupId;
+    }
+
+    public void setGroupId(UUID groupId) {
+        this.groupId = groupId;
+    }
+
+    public Integer getInstallmentNumber() {
+        return installmentNumber;
+    }
+
+    public void setInstallmentNumber(Integer installmentNumber) {
+        this.installmentNumber = installmentNumber;
+    }
+
     @PrePersist
     protected void onCreate() {
         this.created = LocalDateTime.now();
@@ -0,0 +1,44 @@
+package br.dev.mission.simplewallet.model;
+
+import java.time.LocalDate;
+
+/**
+ * Situação de uma transação, derivada de effective_date e due_date: liquidada
+ * quando efetivada, vencida quando o vencimento já passou, pendente no resto.
+ * A mesma regra é aplicada em SQL por TransactionSpecifications.hasStatus.
+ */
+public enum TransactionStatus {
+    LIQUIDATED("liquidated"), OVERDUE("overdue"), PENDING("pending");
+
+    private final String value;
+
+    TransactionStatus(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static TransactionStatus of(LocalDate effectiveDate, LocalDate dueDate, LocalDate today) {
+        if (effectiveDate != null) {
+            return LIQUIDATED;
+        }
+        if (dueDate != null && dueDate.isBefore(today)) {
+            return OVERDUE;
+        }
+        return PENDING;
+    }
+
+    public static TransactionStatus fromParam(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        for (TransactionStatus candidate : values()) {
+            if (candidate.value.equalsIgnoreCase(status.trim())) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("Invalid TransactionStatus: " + status);
+    }
+}
@@ -0,0 +1,29 @@
+package br.dev.mission.simplewallet.repository.account;
+
+import br.dev.mission.simplewallet.model.AccountBalance;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+
+@Repository
+public interface AccountBalanceRepository extends JpaRepository<AccountBalance, Long> {
+    // O query space restrito a tb_account_balances mantém intactos a região de
+    // contas e os resultados em cache de findByUserId
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_account_balances"))
+    @Query(value = "UPDATE tb_account_balances SET effective_total = effective_total + :effective, "
+            + "pending_total = pending_total + :pending WHERE account_id = :accountId", nativeQuery = true)
+    int addToTotals(@Param("accountId") Long accountId, @Param("effective") BigDecimal effective,
+            @Param("pending") BigDecimal pending);
+
+    @Modifying
+    @Query("DELETE FROM AccountBalance b WHERE b.accountId = :accountId")
+    int deleteByAccountId(@Param("accountId") Long accountId);
+}
@@ -1,13 +1,18 @@
 package br.dev.mission.simplewallet.repository.account;
 
 import br.dev.mission.simplewallet.model.Account;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Account> findByUserId(String userId);
+
     List<Account> findByUserIdIn(List<String> userIds);
 }
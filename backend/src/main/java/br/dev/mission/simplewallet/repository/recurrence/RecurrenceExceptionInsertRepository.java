@@ -0,0 +1,12 @@
+package br.dev.mission.simplewallet.repository.recurrence;
+
+import java.time.LocalDate;
+
+public interface RecurrenceExceptionInsertRepository {
+    /**
+     * Exclui a data da regra num único statement, sem erro se ela já estiver
+     * excluída: duas remoções concorrentes da mesma ocorrência não esbarram
+     * em uk_recurrence_exceptions_key.
+     */
+    void exclude(Long recurrenceId, LocalDate date);
+}
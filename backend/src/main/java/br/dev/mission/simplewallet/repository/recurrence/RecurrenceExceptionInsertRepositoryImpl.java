@@ -0,0 +1,45 @@
+package br.dev.mission.simplewallet.repository.recurrence;
+
+import java.time.LocalDate;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+public class RecurrenceExceptionInsertRepositoryImpl implements RecurrenceExceptionInsertRepository {
+    private static final String ON_CONFLICT = "INSERT INTO tb_recurrence_exceptions (recurrence_id, exception_date) "
+            + "VALUES (:recurrenceId, :date) ON CONFLICT ON CONSTRAINT uk_recurrence_exceptions_key DO NOTHING";
+
+    // H2 (testes) não tem ON CONFLICT; o MERGE padrão tem o mesmo efeito
+    private static final String MERGE = "MERGE INTO tb_recurrence_exceptions e USING (SELECT "
+            + "CAST(:recurrenceId AS BIGINT) recurrence_id, CAST(:date AS DATE) exception_date) d "
+            + "ON (e.recurrence_id = d.recurrence_id AND e.exception_date = d.exception_date) "
+            + "WHEN NOT MATCHED THEN INSERT (recurrence_id, exception_date) VALUES (d.recurrence_id, d.exception_date)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgres;
+
+    @Override
+    public void exclude(Long recurrenceId, LocalDate date) {
+        entityManager.createNativeQuery(isPostgres() ? ON_CONFLICT : MERGE)
+                .unwrap(NativeQuery.class)
+                // Sem isto o Hibernate invalidaria todas as regiões do cache de segundo nível
+                .addSynchronizedQuerySpace("tb_recurrence_exceptions")
+                .setParameter("recurrenceId", recurrenceId)
+                .setParameter("date", date)
+                .executeUpdate();
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+        }
+        return postgres;
+    }
+}
@@ -0,0 +1,26 @@
+package br.dev.mission.simplewallet.repository.recurrence;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.dev.mission.simplewallet.model.RecurrenceException;
+
+@Repository
+public interface RecurrenceExceptionRepository
+        extends JpaRepository<RecurrenceException, Long>, RecurrenceExceptionInsertRepository {
+    List<RecurrenceException> findByRecurrenceIdInAndExceptionDateBetween(Collection<Long> recurrenceIds,
+            LocalDate from, LocalDate to);
+
+    boolean existsByRecurrenceIdAndExceptionDate(Long recurrenceId, LocalDate exceptionDate);
+
+    @Modifying
+    @Query("DELETE FROM RecurrenceException e WHERE e.recurrenceId = :recurrenceId")
+    int deleteByRecurrenceId(@Param("recurrenceId") Long recurrenceId);
+}
@@ -0,0 +1,28 @@
+package br.dev.mission.simplewallet.repository.recurrence;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.dev.mission.simplewallet.model.RecurrenceRule;
+
+@Repository
+public interface RecurrenceRuleRepository extends JpaRepository<RecurrenceRule, Long> {
+    List<RecurrenceRule> findByUserIdOrderByStartDateAscIdAsc(String userId);
+
+    /**
+     * Regras com alguma ocorrência possível em [from, to].
+     */
+    @Query("SELECT r FROM RecurrenceRule r WHERE r.userId IN :userIds AND r.startDate <= :to "
+            + "AND (r.endDate IS NULL OR r.endDate >= :from)")
+    List<RecurrenceRule> findActive(@Param("userIds") List<String> userIds, @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    boolean existsByCategory(Long category);
+
+    boolean existsByAccountId(Long accountId);
+}
@@ -0,0 +1,44 @@
+package br.dev.mission.simplewallet.repository.report;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.dev.mission.simplewallet.model.MonthlyRollup;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface MonthlyRollupRepository extends JpaRepository<MonthlyRollup, Long>, MonthlyRollupUpsertRepository {
+    List<MonthlyRollup> findByUserIdInAndYearMonthIn(Collection<String> userIds, Collection<String> yearMonths);
+
+    @Modifying
+    @Query("DELETE FROM MonthlyRollup r WHERE r.userId IN :userIds")
+    int deleteByUserIds(@Param("userIds") Collection<String> userIds);
+
+    /**
+     * Recalcula as linhas dos usuários a partir de tb_transactions, com os
+     * mesmos critérios de {@code MonthlyRollupEntry.of} (type 0 = receita).
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_monthly_rollups"))
+    @Query(value = "INSERT INTO tb_monthly_rollups "
+            + "(user_id, year_month, account_id, category, type, tx_count, income, expense, paid, pending) "
+            + "SELECT user_id, TO_CHAR(due_date, 'YYYY-MM'), account_id, category, type, COUNT(*), "
+            + "SUM(CASE WHEN type = 0 THEN amount ELSE 0 END), "
+            + "SUM(CASE WHEN type = 1 THEN amount ELSE 0 END), "
+            + "SUM(CASE WHEN effective_date IS NOT NULL THEN COALESCE(effective_amount, amount) ELSE 0 END), "
+            + "SUM(CASE WHEN effective_date IS NULL THEN amount ELSE 0 END) "
+            + "FROM tb_transactions WHERE user_id IN :userIds AND due_date IS NOT NULL "
+            + "GROUP BY user_id, TO_CHAR(due_date, 'YYYY-MM'), account_id, category, type", nativeQuery = true)
+    int insertFromTransactions(@Param("userIds") Collection<String> userIds);
+
+    @Query(value = "SELECT DISTINCT user_id FROM tb_transactions", nativeQuery = true)
+    List<String> findTransactionUserIds();
+}
@@ -0,0 +1,13 @@
+package br.dev.mission.simplewallet.repository.report;
+
+import br.dev.mission.simplewallet.model.MonthlyRollup;
+
+public interface MonthlyRollupUpsertRepository {
+    /**
+     * Soma os valores do delta à linha da chave (usuário, mês, conta,
+     * categoria, tipo), criando a linha se ainda não existir, num único
+     * statement: duas primeiras escritas concorrentes na mesma chave não
+     * esbarram em uk_monthly_rollups_key.
+     */
+    void addToTotals(MonthlyRollup delta);
+}
@@ -0,0 +1,69 @@
+package br.dev.mission.simplewallet.repository.report;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+
+import br.dev.mission.simplewallet.model.MonthlyRollup;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+public class MonthlyRollupUpsertRepositoryImpl implements MonthlyRollupUpsertRepository {
+    private static final String ON_CONFLICT = "INSERT INTO tb_monthly_rollups "
+            + "(user_id, year_month, account_id, category, type, tx_count, income, expense, paid, pending) "
+            + "VALUES (:userId, :yearMonth, :accountId, :category, :type, :count, :income, :expense, :paid, :pending) "
+            + "ON CONFLICT ON CONSTRAINT uk_monthly_rollups_key DO UPDATE SET "
+            + "tx_count = tb_monthly_rollups.tx_count + EXCLUDED.tx_count, "
+            + "income = tb_monthly_rollups.income + EXCLUDED.income, "
+            + "expense = tb_monthly_rollups.expense + EXCLUDED.expense, "
+            + "paid = tb_monthly_rollups.paid + EXCLUDED.paid, "
+            + "pending = tb_monthly_rollups.pending + EXCLUDED.pending";
+
+    // H2 (testes) não tem ON CONFLICT ... DO UPDATE; o MERGE padrão tem o mesmo efeito
+    private static final String MERGE = "MERGE INTO tb_monthly_rollups r USING (SELECT "
+            + "CAST(:userId AS VARCHAR(255)) user_id, CAST(:yearMonth AS VARCHAR(7)) year_month, "
+            + "CAST(:accountId AS BIGINT) account_id, CAST(:category AS BIGINT) category, "
+            + "CAST(:type AS SMALLINT) type, CAST(:count AS BIGINT) tx_count, "
+            + "CAST(:income AS DECIMAL(15,2)) income, CAST(:expense AS DECIMAL(15,2)) expense, "
+            + "CAST(:paid AS DECIMAL(15,2)) paid, CAST(:pending AS DECIMAL(15,2)) pending) d "
+            + "ON (r.user_id = d.user_id AND r.year_month = d.year_month AND r.account_id = d.account_id "
+            + "AND r.category = d.category AND r.type = d.type) "
+            + "WHEN MATCHED THEN UPDATE SET tx_count = r.tx_count + d.tx_count, income = r.income + d.income, "
+            + "expense = r.expense + d.expense, paid = r.paid + d.paid, pending = r.pending + d.pending "
+            + "WHEN NOT MATCHED THEN INSERT "
+            + "(user_id, year_month, account_id, category, type, tx_count, income, expense, paid, pending) "
+            + "VALUES (d.user_id, d.year_month, d.account_id, d.category, d.type, d.tx_count, d.income, d.expense, "
+            + "d.paid, d.pending)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgres;
+
+    @Override
+    public void addToTotals(MonthlyRollup delta) {
+        entityManager.createNativeQuery(isPostgres() ? ON_CONFLICT : MERGE)
+                .unwrap(NativeQuery.class)
+                // Sem isto o Hibernate invalidaria todas as regiões do cache de segundo nível
+                .addSynchronizedQuerySpace("tb_monthly_rollups")
+                .setParameter("userId", delta.getUserId())
+                .setParameter("yearMonth", delta.getYearMonth())
+                .setParameter("accountId", delta.getAccountId())
+                .setParameter("category", delta.getCategory())
+                .setParameter("type", delta.getType().ordinal())
+                .setParameter("count", delta.getCount())
+                .setParameter("income", delta.getIncome())
+                .setParameter("expense", delta.getExpense())
+                .setParameter("paid", delta.getPaid())
+                .setParameter("pending", delta.getPending())
+                .executeUpdate();
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+        }
+        return postgres;
+    }
+}
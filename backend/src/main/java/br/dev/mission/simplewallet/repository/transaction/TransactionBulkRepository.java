@@ -0,0 +1,14 @@
+package br.dev.mission.simplewallet.repository.transaction;
+
+import java.util.List;
+
+import br.dev.mission.simplewallet.model.Transaction;
+
+public interface TransactionBulkRepository {
+    /**
+     * Insere as transações em lotes JDBC e limpa o contexto de persistência a
+     * cada lote. Deve ser chamado dentro de uma transação; entidades carregadas
+     * antes da chamada ficam desanexadas.
+     */
+    void insertAll(List<Transaction> transactions);
+}
@@ -0,0 +1,22 @@
+package br.dev.mission.simplewallet.repository.transaction;
+
+import java.util.List;
+
+import br.dev.mission.simplewallet.model.Transaction;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+public class TransactionBulkRepositoryImpl implements TransactionBulkRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void insertAll(List<Transaction> transactions) {
+        // Com a sequence em pool e hibernate.jdbc.batch_size, o flush gera
+        // INSERTs em lote sem ida ao banco por ID
+        transactions.forEach(entityManager::persist);
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
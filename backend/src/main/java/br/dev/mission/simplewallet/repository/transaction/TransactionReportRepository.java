@@ -0,0 +1,16 @@
+package br.dev.mission.simplewallet.repository.transaction;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import br.dev.mission.simplewallet.dto.report.ReportGroup;
+import br.dev.mission.simplewallet.dto.report.ReportRow;
+import br.dev.mission.simplewallet.dto.transaction.TransactionFilter;
+import br.dev.mission.simplewallet.dto.transaction.TransactionStatusCounts;
+
+public interface TransactionReportRepository {
+    List<ReportRow> aggregate(List<String> userIds, TransactionFilter filter, Set<ReportGroup> groups);
+
+    TransactionStatusCounts countByStatus(List<String> userIds, TransactionFilter filter, LocalDate today);
+}
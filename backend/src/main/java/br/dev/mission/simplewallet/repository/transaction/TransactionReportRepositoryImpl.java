@@ -0,0 +1,160 @@
+package br.dev.mission.simplewallet.repository.transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import br.dev.mission.simplewallet.dto.report.ReportGroup;
+import br.dev.mission.simplewallet.dto.report.ReportRow;
+import br.dev.mission.simplewallet.dto.transaction.TransactionFilter;
+import br.dev.mission.simplewallet.dto.transaction.TransactionStatusCounts;
+import br.dev.mission.simplewallet.model.Transaction;
+import br.dev.mission.simplewallet.model.TransactionStatus;
+import br.dev.mission.simplewallet.model.TransactionType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Agrega tb_transactions com GROUP BY no banco; o custo da resposta depende
+ * do número de grupos e não do número de transações.
+ */
+public class TransactionReportRepositoryImpl implements TransactionReportRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ReportRow> aggregate(List<String> userIds, TransactionFilter filter, Set<ReportGroup> groups) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Transaction> root = query.from(Transaction.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        List<Expression<?>> keys = new ArrayList<>();
+
+        if (groups.contains(ReportGroup.MONTH)) {
+            Expression<?> date = root.get(TransactionSpecifications.dateField(filter.dateType()));
+            addKey(selections, keys, cb.function("year", Integer.class, date), "year");
+            addKey(selections, keys, cb.function("month", Integer.class, date), "month");
+        }
+        if (groups.contains(ReportGroup.ACCOUNT)) {
+            addKey(selections, keys, root.get("accountId"), "accountId");
+        }
+        if (groups.contains(ReportGroup.CATEGORY)) {
+            addKey(selections, keys, root.get("category"), "categoryId");
+        }
+        if (groups.contains(ReportGroup.TYPE)) {
+            addKey(selections, keys, root.get("type"), "type");
+        }
+        if (groups.contains(ReportGroup.USER)) {
+            addKey(selections, keys, root.get("userId"), "userId");
+        }
+
+        Expression<BigDecimal> amount = root.get("amount");
+        Expression<BigDecimal> paidAmount = cb.coalesce(root.<BigDecimal>get("effectiveAmount"), amount);
+        Expression<BigDecimal> zero = cb.literal(BigDecimal.ZERO);
+        Expression<Boolean> settled = cb.isNotNull(root.get("effectiveDate"));
+        Expression<Boolean> income = cb.equal(root.get("type"), TransactionType.IN);
+
+        selections.add(cb.count(root).alias("count"));
+        selections.add(cb.sum(cb.<BigDecimal>selectCase()
+                .when(income, amount).otherwise(zero)).alias("income"));
+        selections.add(cb.sum(cb.<BigDecimal>selectCase()
+                .when(cb.equal(root.get("type"), TransactionType.EX), amount).otherwise(zero)).alias("expense"));
+        // paid e pending são líquidos: receitas somam e despesas subtraem
+        selections.add(cb.sum(cb.<BigDecimal>selectCase()
+                .when(cb.not(settled), zero)
+                .when(income, paidAmount)
+                .otherwise(cb.neg(paidAmount))).alias("paid"));
+        selections.add(cb.sum(cb.<BigDecimal>selectCase()
+                .when(settled, zero)
+                .when(income, amount)
+                .otherwise(cb.neg(amount))).alias("pending"));
+
+        query.multiselect(selections)
+                .where(TransactionSpecifications.forUsers(userIds, filter).toPredicate(root, query, cb))
+                .groupBy(keys)
+                .orderBy(keys.stream().map(cb::asc).toList());
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(tuple -> toRow(tuple, groups))
+                .toList();
+    }
+
+    /**
+     * Contagem e soma por situação numa única consulta, com uma soma
+     * condicional por situação sobre as linhas do escopo.
+     */
+    @Override
+    public TransactionStatusCounts countByStatus(List<String> userIds, TransactionFilter filter, LocalDate today) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Transaction> root = query.from(Transaction.class);
+
+        Expression<BigDecimal> amount = root.get("amount");
+        Expression<BigDecimal> paidAmount = cb.coalesce(root.<BigDecimal>get("effectiveAmount"), amount);
+        List<Selection<?>> selections = new ArrayList<>();
+        for (TransactionStatus status : TransactionStatus.values()) {
+            Predicate matches = TransactionSpecifications.hasStatus(root, cb, status, today);
+            selections.add(cb.sum(cb.<Long>selectCase().when(matches, 1L).otherwise(0L)).alias(status.getValue()));
+            selections.add(cb.sum(cb.<BigDecimal>selectCase()
+                    .when(matches, status == TransactionStatus.LIQUIDATED ? paidAmount : amount)
+                    .otherwise(cb.literal(BigDecimal.ZERO))).alias(status.getValue() + "Total"));
+        }
+
+        query.multiselect(selections)
+                .where(TransactionSpecifications.forUsers(userIds, filter).toPredicate(root, query, cb));
+        Tuple tuple = entityManager.createQuery(query).getSingleResult();
+        return new TransactionStatusCounts(
+                statusTotal(tuple, TransactionStatus.PENDING),
+                statusTotal(tuple, TransactionStatus.OVERDUE),
+                statusTotal(tuple, TransactionStatus.LIQUIDATED));
+    }
+
+    private static TransactionStatusCounts.StatusTotal statusTotal(Tuple tuple, TransactionStatus status) {
+        Long count = tuple.get(status.getValue(), Long.class);
+        return new TransactionStatusCounts.StatusTotal(count != null ? count : 0L,
+                orZero(tuple.get(status.getValue() + "Total", BigDecimal.class)));
+    }
+
+    private static void addKey(List<Selection<?>> selections, List<Expression<?>> keys, Expression<?> key,
+            String alias) {
+        selections.add(key.alias(alias));
+        keys.add(key);
+    }
+
+    private static ReportRow toRow(Tuple tuple, Set<ReportGroup> groups) {
+        String month = null;
+        if (groups.contains(ReportGroup.MONTH) && tuple.get("year") != null) {
+            month = String.format("%04d-%02d", tuple.get("year", Integer.class), tuple.get("month", Integer.class));
+        }
+        TransactionType type = groups.contains(ReportGroup.TYPE) ? tuple.get("type", TransactionType.class) : null;
+        return new ReportRow(
+                month,
+                groups.contains(ReportGroup.ACCOUNT) ? tuple.get("accountId", Long.class) : null,
+                null,
+                groups.contains(ReportGroup.CATEGORY) ? tuple.get("categoryId", Long.class) : null,
+                null,
+                type != null ? type.getCode() : null,
+                groups.contains(ReportGroup.USER) ? tuple.get("userId", String.class) : null,
+                null,
+                tuple.get("count", Long.class),
+                orZero(tuple.get("income", BigDecimal.class)),
+                orZero(tuple.get("expense", BigDecimal.class)),
+                orZero(tuple.get("paid", BigDecimal.class)),
+                orZero(tuple.get("pending", BigDecimal.class)));
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+}
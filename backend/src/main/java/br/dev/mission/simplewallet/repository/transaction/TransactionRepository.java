@@ -1,16 +1,26 @@
 package br.dev.mission.simplewallet.repository.transaction;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import br.dev.mission.simplewallet.model.Transaction;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, JpaSpecificationExecutor<Transaction>,
+        TransactionReportRepository, TransactionStreamRepository, TransactionBulkRepository {
     Page<Transaction> findByUserId(String userId, Pageable pageable);
 
     Page<Transaction> findByUserIdIn(List<String> userIds, Pageable pageable);
@@ -18,4 +28,46 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     boolean existsByCategory(Long category);
 
     boolean existsByAccountId(Long accountId);
+
+    List<Transaction> findByRecurrenceIdInAndRecurrenceDateBetween(Collection<Long> recurrenceIds, LocalDate from,
+            LocalDate to);
+
+    Optional<Transaction> findByRecurrenceIdAndRecurrenceDate(Long recurrenceId, LocalDate recurrenceDate);
+
+    /**
+     * Ocorrências materializadas continuam como transações comuns quando a
+     * regra é removida.
+     */
+    @Modifying
+    @Query("UPDATE Transaction t SET t.recurrenceId = null WHERE t.recurrenceId = :recurrenceId")
+    int detachRecurrence(@Param("recurrenceId") Long recurrenceId);
+
+    List<Transaction> findByGroupIdAndUserIdOrderByInstallmentNumberAsc(UUID groupId, String userId);
+
+    /**
+     * Liquida de uma vez as parcelas em aberto do grupo pelo valor previsto. O
+     * lançamento de origem (número 0) não é afetado.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Transaction t SET t.effectiveDate = :effectiveDate, t.effectiveAmount = t.amount, "
+            + "t.updated = :now WHERE t.groupId = :groupId AND t.userId = :userId "
+            + "AND t.installmentNumber > 0 AND t.effectiveDate IS NULL")
+    int settleGroup(@Param("groupId") UUID groupId, @Param("userId") String userId,
+            @Param("effectiveDate") LocalDate effectiveDate, @Param("now") LocalDateTime now);
+
+    /**
+     * Reagenda as parcelas em aberto do grupo: a parcela fromNumber passa a
+     * vencer em firstDueDate e as seguintes, mês a mês a partir dela.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Transaction t SET t.dueDate = :firstDueDate + (t.installmentNumber - :fromNumber) month, "
+            + "t.updated = :now WHERE t.groupId = :groupId AND t.userId = :userId "
+            + "AND t.installmentNumber > 0 AND t.effectiveDate IS NULL")
+    int rescheduleGroup(@Param("groupId") UUID groupId, @Param("userId") String userId,
+            @Param("firstDueDate") LocalDate firstDueDate, @Param("fromNumber") int fromNumber,
+            @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Transaction t WHERE t.groupId = :groupId AND t.userId = :userId")
+    int deleteGroup(@Param("groupId") UUID groupId, @Param("userId") String userId);
 }
@@ -0,0 +1,151 @@
+package br.dev.mission.simplewallet.repository.transaction;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import br.dev.mission.simplewallet.dto.transaction.TransactionCursor;
+import br.dev.mission.simplewallet.dto.transaction.TransactionFilter;
+import br.dev.mission.simplewallet.model.Transaction;
+import br.dev.mission.simplewallet.model.TransactionStatus;
+import br.dev.mission.simplewallet.model.TransactionType;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Traduz os filtros da listagem de transações em um único predicado SQL.
+ * Os predicados seguem a ordem dos índices compostos de tb_transactions
+ * (user_id, account_id/category_id, due_date/effective_date).
+ */
+public final class TransactionSpecifications {
+
+    public static final String DATE_TYPE_EFFECTIVE = "effectiveDate";
+    public static final String DATE_TYPE_DUE = "dueDate";
+
+    private static final Set<String> SORTABLE_FIELDS = Set.of(
+            "dueDate", "effectiveDate", "amount", "description", "created", "id");
+
+    private TransactionSpecifications() {
+    }
+
+    public static Specification<Transaction> forUsers(List<String> userIds, TransactionFilter filter) {
+        Specification<Transaction> spec = userIdIn(userIds);
+        if (filter.accountId() != null) {
+            spec = spec.and(equal("accountId", filter.accountId()));
+        }
+        if (filter.categoryId() != null) {
+            spec = spec.and(equal("category", filter.categoryId()));
+        }
+        if (filter.type() != null) {
+            spec = spec.and(equal("type", TransactionType.fromCode(filter.type())));
+        }
+        String dateField = dateField(filter.dateType());
+        if (filter.dateFrom() != null) {
+            spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get(dateField), filter.dateFrom()));
+        }
+        if (filter.dateTo() != null) {
+            spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get(dateField), filter.dateTo()));
+        }
+        if (filter.description() != null && !filter.description().isBlank()) {
+            String pattern = "%" + filter.description().trim().toLowerCase() + "%";
+            spec = spec.and((root, query, cb) -> cb.like(cb.lower(root.get("description")), pattern));
+        }
+        if (filter.status() != null) {
+            LocalDate today = LocalDate.now();
+            spec = spec.and((root, query, cb) -> hasStatus(root, cb, filter.status(), today));
+        }
+        return spec;
+    }
+
+    /**
+     * A regra de {@link TransactionStatus#of} em SQL. No filtro da listagem,
+     * pendentes e vencidas são cobertas pelo índice parcial (user_id,
+     * due_date) WHERE effective_date IS NULL (V014); liquidadas, por
+     * (user_id, effective_date) (V008).
+     */
+    public static Predicate hasStatus(Path<Transaction> root, CriteriaBuilder cb, TransactionStatus status,
+            LocalDate today) {
+        Path<LocalDate> dueDate = root.get(DATE_TYPE_DUE);
+        Predicate unsettled = cb.isNull(root.get(DATE_TYPE_EFFECTIVE));
+        return switch (status) {
+            case LIQUIDATED -> cb.isNotNull(root.get(DATE_TYPE_EFFECTIVE));
+            case OVERDUE -> cb.and(unsettled, cb.lessThan(dueDate, today));
+            case PENDING -> cb.and(unsettled, cb.or(cb.isNull(dueDate), cb.greaterThanOrEqualTo(dueDate, today)));
+        };
+    }
+
+    /**
+     * Ordenação permitida na listagem; campos desconhecidos caem em dueDate.
+     * O id entra como desempate para manter a paginação estável.
+     */
+    public static Sort sort(String sort, String order) {
+        String field = sort != null && SORTABLE_FIELDS.contains(sort) ? sort : DATE_TYPE_DUE;
+        Sort.Direction direction = "desc".equalsIgnoreCase(order) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return Sort.by(direction, field).and(Sort.by(direction, "id"));
+    }
+
+    /**
+     * Ordenação da listagem por cursor: (dueDate, id) na direção pedida,
+     * coberta pelo índice (user_id, due_date, id).
+     */
+    public static Sort keysetSort(Sort.Direction direction) {
+        return Sort.by(direction, DATE_TYPE_DUE).and(Sort.by(direction, "id"));
+    }
+
+    /**
+     * Transações com vencimento estritamente depois do cursor na ordem de
+     * {@link #keysetSort}; o banco busca a posição pelo índice em vez de
+     * descartar OFFSET linhas. Sem cursor, começa da primeira.
+     */
+    public static Specification<Transaction> dueDateAfter(TransactionCursor cursor, Sort.Direction direction) {
+        return (root, query, cb) -> {
+            Path<LocalDate> dueDate = root.get(DATE_TYPE_DUE);
+            if (cursor == null) {
+                return cb.isNotNull(dueDate);
+            }
+            Path<Long> id = root.get("id");
+            Predicate dateAfter = direction.isAscending() ? cb.greaterThan(dueDate, cursor.dueDate())
+                    : cb.lessThan(dueDate, cursor.dueDate());
+            return cb.or(dateAfter, cb.and(cb.equal(dueDate, cursor.dueDate()), idAfter(cb, id, cursor, direction)));
+        };
+    }
+
+    /**
+     * Transações sem vencimento, que vêm depois de todas as outras em qualquer
+     * direção. Só avança pelo id quando o cursor já está nesse trecho.
+     */
+    public static Specification<Transaction> withoutDueDateAfter(TransactionCursor cursor,
+            Sort.Direction direction) {
+        return (root, query, cb) -> {
+            Predicate withoutDueDate = cb.isNull(root.get(DATE_TYPE_DUE));
+            if (cursor == null || cursor.dueDate() != null) {
+                return withoutDueDate;
+            }
+            return cb.and(withoutDueDate, idAfter(cb, root.get("id"), cursor, direction));
+        };
+    }
+
+    public static String dateField(String dateType) {
+        return DATE_TYPE_EFFECTIVE.equals(dateType) ? DATE_TYPE_EFFECTIVE : DATE_TYPE_DUE;
+    }
+
+    private static Predicate idAfter(CriteriaBuilder cb, Path<Long> id, TransactionCursor cursor,
+            Sort.Direction direction) {
+        return direction.isAscending() ? cb.greaterThan(id, cursor.id()) : cb.lessThan(id, cursor.id());
+    }
+
+    private static Specification<Transaction> userIdIn(List<String> userIds) {
+        if (userIds.size() == 1) {
+            return equal("userId", userIds.get(0));
+        }
+        return (root, query, cb) -> root.get("userId").in(userIds);
+    }
+
+    private static Specification<Transaction> equal(String field, Object value) {
+        return (root, query, cb) -> cb.equal(root.get(field), value);
+    }
+}
@@ -0,0 +1,16 @@
+package br.dev.mission.simplewallet.repository.transaction;
+
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import br.dev.mission.simplewallet.model.Transaction;
+
+public interface TransactionStreamRepository {
+    /**
+     * Lê as transações por um cursor forward-only. Deve ser consumido dentro de
+     * uma transação read-only e fechado ao final.
+     */
+    Stream<Transaction> streamAll(Specification<Transaction> spec, Sort sort);
+}
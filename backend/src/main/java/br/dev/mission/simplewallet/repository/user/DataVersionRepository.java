@@ -0,0 +1,30 @@
+package br.dev.mission.simplewallet.repository.user;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.dev.mission.simplewallet.model.DataVersion;
+
+@Repository
+public interface DataVersionRepository extends JpaRepository<DataVersion, String> {
+    List<DataVersion> findByUserIdIn(Collection<String> userIds);
+
+    @Modifying
+    @Query("UPDATE DataVersion v SET v.version = v.version + 1 WHERE v.userId IN :userIds")
+    int increment(@Param("userIds") Collection<String> userIds);
+
+    /**
+     * Cria a linha já incrementada ou incrementa a existente, sem corrida entre
+     * escritas concorrentes do mesmo usuário.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO tb_data_versions (user_id, version) VALUES (:userId, 1) "
+            + "ON CONFLICT (user_id) DO UPDATE SET version = tb_data_versions.version + 1", nativeQuery = true)
+    int upsertIncrement(@Param("userId") String userId);
+}
@@ -0,0 +1,41 @@
+package br.dev.mission.simplewallet.security;
+
+import java.time.Duration;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Escolhe o maior custo do BCrypt cujo hash, nesta máquina, ainda cabe no tempo
+ * alvo. Cada ponto de custo dobra o tempo, então basta medir do mínimo para cima
+ * até a próxima dobra estourar o alvo.
+ */
+public final class BCryptCostCalibrator {
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private BCryptCostCalibrator() {
+    }
+
+    public static int calibrate(Duration target, int minStrength, int maxStrength) {
+        long targetNanos = target.toNanos();
+        // Aquecimento do JIT antes de medir
+        measure(minStrength);
+
+        int strength = minStrength;
+        long elapsed = measure(strength);
+        while (strength < maxStrength && elapsed * 2 <= targetNanos) {
+            strength++;
+            elapsed = measure(strength);
+        }
+        if (elapsed > targetNanos && strength > minStrength) {
+            strength--;
+        }
+        return strength;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long start = System.nanoTime();
+        encoder.encode(SAMPLE_PASSWORD);
+        return System.nanoTime() - start;
+    }
+}
@@ -4,19 +4,30 @@ import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 import javax.crypto.SecretKey;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import br.dev.mission.simplewallet.model.User;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.annotation.Timed;
 
 @Component
 public class JwtUtil {
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_PARENT_ID = "pid";
+
     private final SecretKey key;
+    private final JwtParser parser;
     private static final long EXPERATION_MS = 86400000;
 
     public JwtUtil(@Value("${JWT_SECRET}") String secret) {
@@ -24,28 +35,45 @@ public class JwtUtil {
             throw new IllegalStateException("JWT_SECRET não definido ou muito curto (mínimo 32 caracteres)");
         }
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
+        // O parser é imutável e thread-safe: construído uma única vez
+        this.parser = Jwts.parser().verifyWith(key).build();
     }
 
-    public String generateToken(String username) {
+    @Timed(value = "wallet.jwt", extraTags = { "operation", "generate" })
+    public String generateToken(User user) {
         JwtBuilder builder = Jwts.builder()
-                .subject(username)
+                .id(UUID.randomUUID().toString())
+                .subject(user.getUsername())
+                .claim(CLAIM_USER_ID, user.getId().toString())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + EXPERATION_MS))
                 .signWith(key);
+        if (user.getParentId() != null) {
+            builder.claim(CLAIM_PARENT_ID, user.getParentId().toString());
+        }
         return builder.compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        return Jwts.parser().verifyWith(key).build()
-                .parseSignedClaims(token).getPayload().getSubject();
-    }
-
-    public boolean validateToken(String token) {
+    /**
+     * Valida a assinatura e a expiração com uma única verificação e extrai os
+     * claims. Tokens antigos, sem os claims uid ou jti, retornam userId ou
+     * tokenId nulos.
+     */
+    @Timed(value = "wallet.jwt", extraTags = { "operation", "parse" })
+    public Optional<TokenClaims> parseToken(String token) {
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            String parentId = claims.get(CLAIM_PARENT_ID, String.class);
+            Date issuedAt = claims.getIssuedAt();
+            return Optional.of(new TokenClaims(
+                    claims.getSubject(),
+                    claims.get(CLAIM_USER_ID, String.class),
+                    parentId != null ? UUID.fromString(parentId) : null,
+                    claims.getId(),
+                    issuedAt != null ? issuedAt.toInstant() : null,
+                    claims.getExpiration().toInstant()));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
         }
     }
 
@@ -58,10 +86,4 @@ public class JwtUtil {
                 .atZone(ZoneOffset.UTC)
                 .format(DateTimeFormatter.ISO_INSTANT);
     }
-
-    public String generateRefreshToken(String username) {
-        // Por enquanto, vamos retornar um token simples
-        // Em uma implementação real, você deveria usar um mecanismo separado
-        return "refresh_" + username + "_" + System.currentTimeMillis();
-    }
 }
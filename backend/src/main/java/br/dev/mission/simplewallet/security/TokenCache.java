@@ -0,0 +1,95 @@
+package br.dev.mission.simplewallet.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import br.dev.mission.simplewallet.repository.user.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache limitado de access tokens já validados, indexado pelo hash SHA-256 do
+ * token. Cada entrada expira junto com o próprio token, então uma requisição
+ * autenticada faz no máximo uma verificação de assinatura e nenhuma consulta.
+ */
+@Component
+public class TokenCache implements MeterBinder {
+    private final JwtUtil jwtUtil;
+    private final UserRepository userRepository;
+    private final Cache<String, TokenClaims> cache;
+
+    public TokenCache(JwtUtil jwtUtil, UserRepository userRepository,
+            @Value("${security.jwt.cache.max-size:10000}") long maxSize) {
+        this.jwtUtil = jwtUtil;
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, TokenClaims>() {
+                    @Override
+                    public long expireAfterCreate(String key, TokenClaims claims, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), claims.expiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, TokenClaims claims, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, TokenClaims claims, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    public Optional<TokenClaims> resolve(String token) {
+        String key = hash(token);
+        TokenClaims cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<TokenClaims> claims = jwtUtil.parseToken(token).flatMap(this::withUserId);
+        claims.ifPresent(value -> cache.put(key, value));
+        return claims;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "jwt.tokens");
+    }
+
+    private Optional<TokenClaims> withUserId(TokenClaims claims) {
+        if (claims.userId() != null) {
+            return Optional.of(claims);
+        }
+        // Tokens emitidos antes do claim uid: resolve o usuário uma vez e guarda no cache
+        return userRepository.findByUsername(claims.username())
+                .map(user -> claims.withUserId(user.getId().toString(), user.getParentId()));
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
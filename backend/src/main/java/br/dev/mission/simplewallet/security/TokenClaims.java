@@ -0,0 +1,21 @@
+package br.dev.mission.simplewallet.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Dados do access token já validado: suficientes para autenticar a requisição
+ * sem consultar o banco.
+ */
+public record TokenClaims(
+    String username,
+    String userId,
+    UUID parentId,
+    String tokenId,
+    Instant issuedAt,
+    Instant expiresAt
+) {
+    public TokenClaims withUserId(String userId, UUID parentId) {
+        return new TokenClaims(username, userId, parentId, tokenId, issuedAt, expiresAt);
+    }
+}
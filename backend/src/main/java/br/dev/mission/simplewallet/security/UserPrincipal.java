@@ -0,0 +1,20 @@
+package br.dev.mission.simplewallet.security;
+
+import java.security.Principal;
+import java.util.UUID;
+
+/**
+ * Usuário autenticado, montado pelo JwtAuthenticationFilter a partir dos
+ * claims do token. Carrega o id e o parent sem consulta ao banco.
+ */
+public record UserPrincipal(
+    String userId,
+    String username,
+    UUID parentId
+) implements Principal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
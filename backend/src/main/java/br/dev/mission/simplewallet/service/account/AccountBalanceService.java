@@ -0,0 +1,86 @@
+package br.dev.mission.simplewallet.service.account;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.dev.mission.simplewallet.model.Transaction;
+import br.dev.mission.simplewallet.repository.account.AccountBalanceRepository;
+
+/**
+ * Mantém os somatórios de saldo das contas a cada mutação de transação. Os
+ * deltas são aplicados com UPDATE incremental em tb_account_balances e exigem a transação de banco
+ * de quem chama, para que saldo e transação sejam gravados juntos.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class AccountBalanceService {
+    @Autowired
+    private AccountBalanceRepository accountBalanceRepository;
+
+    public void apply(Transaction transaction) {
+        apply(BalanceDelta.of(transaction));
+    }
+
+    public void revert(Transaction transaction) {
+        apply(BalanceDelta.of(transaction).negate());
+    }
+
+    /**
+     * Troca o efeito anterior de uma transação alterada pelo atual, inclusive
+     * quando ela mudou de conta.
+     */
+    public void replace(BalanceDelta before, Transaction after) {
+        BalanceDelta current = BalanceDelta.of(after);
+        if (before.accountId().equals(current.accountId())) {
+            apply(current.plus(before.negate()));
+        } else {
+            apply(before.negate());
+            apply(current);
+        }
+    }
+
+    /** Um único UPDATE por conta, independente do número de transações. */
+    public void applyAll(Collection<Transaction> transactions) {
+        Map<Long, BalanceDelta> byAccount = new LinkedHashMap<>();
+        for (Transaction transaction : transactions) {
+            merge(byAccount, BalanceDelta.of(transaction));
+        }
+        byAccount.values().forEach(this::apply);
+    }
+
+    public void revertAll(Collection<Transaction> transactions) {
+        Map<Long, BalanceDelta> byAccount = new LinkedHashMap<>();
+        for (Transaction transaction : transactions) {
+            merge(byAccount, BalanceDelta.of(transaction).negate());
+        }
+        byAccount.values().forEach(this::apply);
+    }
+
+    /** Versão em lote de {@link #replace}, também com um UPDATE por conta. */
+    public void replaceAll(Collection<BalanceDelta> before, Collection<Transaction> after) {
+        Map<Long, BalanceDelta> byAccount = new LinkedHashMap<>();
+        for (BalanceDelta delta : before) {
+            merge(byAccount, delta.negate());
+        }
+        for (Transaction transaction : after) {
+            merge(byAccount, BalanceDelta.of(transaction));
+        }
+        byAccount.values().forEach(this::apply);
+    }
+
+    private static void merge(Map<Long, BalanceDelta> byAccount, BalanceDelta delta) {
+        byAccount.merge(delta.accountId(), delta, BalanceDelta::plus);
+    }
+
+    private void apply(BalanceDelta delta) {
+        if (!delta.isZero()) {
+            accountBalanceRepository.addToTotals(delta.accountId(), delta.effective(), delta.pending());
+        }
+    }
+}
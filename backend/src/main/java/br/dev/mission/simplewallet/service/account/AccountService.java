@@ -2,56 +2,65 @@ package br.dev.mission.simplewallet.service.account;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import br.dev.mission.simplewallet.dto.account.AccountRequest;
 import br.dev.mission.simplewallet.dto.account.AccountResponse;
 import br.dev.mission.simplewallet.mapper.account.AccountMapper;
 import br.dev.mission.simplewallet.model.Account;
+import br.dev.mission.simplewallet.model.AccountBalance;
+import br.dev.mission.simplewallet.repository.account.AccountBalanceRepository;
 import br.dev.mission.simplewallet.repository.account.AccountRepository;
+import br.dev.mission.simplewallet.repository.recurrence.RecurrenceRuleRepository;
 import br.dev.mission.simplewallet.repository.transaction.TransactionRepository;
-import br.dev.mission.simplewallet.repository.user.UserRepository;
+import br.dev.mission.simplewallet.service.user.DataVersionService;
+import br.dev.mission.simplewallet.service.user.FamilyCache;
 
 @Service
 public class AccountService {
     @Autowired
     private AccountRepository accountRepository;
     @Autowired
+    private AccountBalanceRepository accountBalanceRepository;
+    @Autowired
     private AccountMapper accountMapper;
     @Autowired
-    private UserRepository userRepository;
+    private FamilyCache familyCache;
 
     @Autowired
     private TransactionRepository transactionRepository;
 
+    @Autowired
+    private RecurrenceRuleRepository recurrenceRuleRepository;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Transactional
     public AccountResponse create(AccountRequest request, String userId) {
-        Account account = accountMapper.toEntity(request, userId);
-        return accountMapper.toResponse(accountRepository.save(account));
+        Account account = accountRepository.save(accountMapper.toEntity(request, userId));
+        // Linha de somatórios zerada, que o AccountBalanceService passa a incrementar
+        accountBalanceRepository.save(new AccountBalance(account.getId()));
+        AccountResponse response = accountMapper.toResponse(account);
+        dataVersionService.bump(userId);
+        return response;
     }
 
     public List<AccountResponse> findByUserId(String userId) {
-        return accountRepository.findByUserId(userId).stream().map(accountMapper::toResponse).toList();
+        return accountMapper.toResponseList(accountRepository.findByUserId(userId));
     }
 
     public List<AccountResponse> findAllForFamily(String userId) {
-        // Criar lista com o userId atual
-        List<String> userIds = new java.util.ArrayList<>();
-        userIds.add(userId);
-
-        // Buscar todos os filhos (usuários que têm este usuário como parent) e
-        // adicionar à lista
-        List<String> childrenIds = userRepository.findByParentId(UUID.fromString(userId)).stream()
-                .map(user -> user.getId().toString()).toList();
-        userIds.addAll(childrenIds);
+        List<String> userIds = familyCache.familyUserIds(userId);
 
         // Buscar todas as contas em uma única consulta
         List<Account> accounts = accountRepository.findByUserIdIn(userIds);
 
-        return accounts.stream().map(accountMapper::toResponse).toList();
+        return accountMapper.toResponseList(accounts);
     }
 
     public Optional<AccountResponse> findById(Long id, String userId) {
@@ -59,20 +68,27 @@ public class AccountService {
                 .map(accountMapper::toResponse);
     }
 
+    @Transactional
     public Optional<AccountResponse> update(Long id, AccountRequest request, String userId) {
         return accountRepository.findById(id).filter(acc -> acc.getUserId().equals(userId)).map(acc -> {
             accountMapper.updateEntity(acc, request);
-            return accountMapper.toResponse(accountRepository.save(acc));
+            AccountResponse response = accountMapper.toResponse(accountRepository.save(acc));
+            dataVersionService.bump(userId);
+            return response;
         });
     }
 
+    @Transactional
     public boolean delete(Long id, String userId) {
         return accountRepository.findById(id).filter(acc -> acc.getUserId().equals(userId)).map(acc -> {
-            if (transactionRepository.existsByAccountId(acc.getId())) {
+            if (transactionRepository.existsByAccountId(acc.getId())
+                    || recurrenceRuleRepository.existsByAccountId(acc.getId())) {
                 throw new DataIntegrityViolationException(
                         "Não é possível remover a conta pois existem transações vinculadas.");
             }
+            accountBalanceRepository.deleteByAccountId(acc.getId());
             accountRepository.delete(acc);
+            dataVersionService.bump(userId);
             return true;
         }).orElse(false);
     }
@@ -0,0 +1,49 @@
+package br.dev.mission.simplewallet.service.account;
+
+import java.math.BigDecimal;
+
+import br.dev.mission.simplewallet.model.Transaction;
+import br.dev.mission.simplewallet.model.TransactionType;
+
+/**
+ * Efeito de uma transação sobre os somatórios da conta: efetivadas contam pelo
+ * effectiveAmount (ou amount, se ausente) e pendentes pelo amount. Receitas
+ * somam e despesas subtraem.
+ */
+public record BalanceDelta(Long accountId, BigDecimal effective, BigDecimal pending) {
+
+    /**
+     * Com IDs de sequence o insert só acontece no flush, depois deste cálculo;
+     * por isso amount e type são validados aqui, com 400 em vez de NPE.
+     */
+    public static BalanceDelta of(Transaction transaction) {
+        if (transaction.getAmount() == null || transaction.getType() == null) {
+            throw new IllegalArgumentException("amount e type são obrigatórios");
+        }
+        BigDecimal amount = transaction.getAmount();
+        if (transaction.getType() == TransactionType.EX) {
+            amount = amount.negate();
+        }
+        if (transaction.getEffectiveDate() == null) {
+            return new BalanceDelta(transaction.getAccountId(), BigDecimal.ZERO, amount);
+        }
+        BigDecimal effectiveAmount = transaction.getEffectiveAmount() != null ? transaction.getEffectiveAmount()
+                : transaction.getAmount();
+        if (transaction.getType() == TransactionType.EX) {
+            effectiveAmount = effectiveAmount.negate();
+        }
+        return new BalanceDelta(transaction.getAccountId(), effectiveAmount, BigDecimal.ZERO);
+    }
+
+    public BalanceDelta plus(BalanceDelta other) {
+        return new BalanceDelta(accountId, effective.add(other.effective), pending.add(other.pending));
+    }
+
+    public BalanceDelta negate() {
+        return new BalanceDelta(accountId, effective.negate(), pending.negate());
+    }
+
+    public boolean isZero() {
+        return effective.signum() == 0 && pending.signum() == 0;
+    }
+}
@@ -0,0 +1,69 @@
+package br.dev.mission.simplewallet.service.auth;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter de tamanho fixo para chaves String, seguro para leituras e
+ * escritas concorrentes. Responde apenas "certamente ausente" ou "talvez
+ * presente"; a confirmação fica com quem o usa. Não suporta remoção: para
+ * descartar chaves, constrói-se um filtro novo.
+ */
+final class BloomFilter {
+    private final AtomicLongArray words;
+    private final int bitCount;
+    private final int hashCount;
+
+    BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(1, expectedInsertions);
+        double bits = -n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 64, Math.max(64, Math.ceil(bits)));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.words = new AtomicLongArray((bitCount + 63) >>> 6);
+    }
+
+    void put(char domain, String key) {
+        long hash = hash(domain, key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bit = index(h1 + i * h2);
+            long mask = 1L << bit;
+            words.accumulateAndGet(bit >>> 6, mask, (current, value) -> current | value);
+        }
+    }
+
+    boolean mightContain(char domain, String key) {
+        long hash = hash(domain, key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bit = index(h1 + i * h2);
+            if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(int combined) {
+        return (combined < 0 ? ~combined : combined) % bitCount;
+    }
+
+    /**
+     * FNV-1a de 64 bits com o finalizador do MurmurHash3; o domínio separa
+     * chaves de tipos diferentes guardadas no mesmo filtro.
+     */
+    private static long hash(char domain, String key) {
+        long h = 0xcbf29ce484222325L;
+        h = (h ^ domain) * 0x100000001b3L;
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
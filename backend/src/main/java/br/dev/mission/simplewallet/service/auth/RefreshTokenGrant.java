@@ -0,0 +1,9 @@
+package br.dev.mission.simplewallet.service.auth;
+
+import java.util.UUID;
+
+/**
+ * Resultado de uma troca de refresh token: o dono e o novo token em claro.
+ */
+public record RefreshTokenGrant(UUID userId, String refreshToken) {
+}
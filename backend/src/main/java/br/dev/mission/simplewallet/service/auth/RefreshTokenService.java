@@ -0,0 +1,162 @@
+package br.dev.mission.simplewallet.service.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.dev.mission.simplewallet.model.RefreshToken;
+import br.dev.mission.simplewallet.repository.auth.RefreshTokenRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Refresh tokens opacos (256 bits aleatórios) guardados como hash SHA-256 em
+ * tb_refresh_tokens. Cada uso troca o token por outro da mesma sessão; um token
+ * reapresentado depois de trocado revoga a sessão inteira, já que indica que
+ * foi copiado. Tokens ainda não usados ficam num cache local, então a troca
+ * normal custa só o UPDATE que marca o uso e o INSERT do próximo.
+ */
+@Service
+public class RefreshTokenService implements MeterBinder {
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration ttl;
+    private final Cache<String, ActiveToken> activeTokens;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+            @Value("${security.refresh-token.ttl:30d}") Duration ttl,
+            @Value("${security.refresh-token.cache.max-size:10000}") long maxSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.ttl = ttl;
+        this.activeTokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Abre uma sessão nova para o usuário (login) e devolve o token em claro.
+     */
+    @Transactional
+    public String issue(UUID userId) {
+        return create(userId, UUID.randomUUID());
+    }
+
+    /**
+     * Troca um token válido pelo próximo da mesma sessão. Vazio quando o token é
+     * desconhecido, expirado ou reutilizado; no reuso a sessão é revogada.
+     */
+    @Transactional
+    public Optional<RefreshTokenGrant> rotate(String rawToken) {
+        String tokenHash = hash(rawToken);
+        ActiveToken token = find(tokenHash);
+        if (token == null) {
+            return Optional.empty();
+        }
+        activeTokens.invalidate(tokenHash);
+
+        Instant now = Instant.now();
+        if (!token.expiresAt().isAfter(now)) {
+            return Optional.empty();
+        }
+        if (token.used() || refreshTokenRepository.markUsed(token.id(), now) == 0) {
+            revokeSession(token.sessionId());
+            return Optional.empty();
+        }
+        return Optional.of(new RefreshTokenGrant(token.userId(), create(token.userId(), token.sessionId())));
+    }
+
+    /**
+     * Troca de senha: encerra todas as sessões do usuário.
+     */
+    @Transactional
+    public void revokeAll(UUID userId) {
+        refreshTokenRepository.deleteByUserId(userId);
+        activeTokens.asMap().values().removeIf(token -> token.userId().equals(userId));
+    }
+
+    /**
+     * Logout: revoga a sessão do token informado, se existir.
+     */
+    @Transactional
+    public void revoke(String rawToken) {
+        ActiveToken token = find(hash(rawToken));
+        if (token != null) {
+            revokeSession(token.sessionId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.refresh-token.purge-interval:1h}",
+            initialDelayString = "${security.refresh-token.purge-interval:1h}")
+    @Transactional
+    public void purgeExpired() {
+        refreshTokenRepository.deleteExpired(Instant.now());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, activeTokens, "refresh.tokens");
+    }
+
+    private ActiveToken find(String tokenHash) {
+        ActiveToken cached = activeTokens.getIfPresent(tokenHash);
+        if (cached != null) {
+            return cached;
+        }
+        return refreshTokenRepository.findByTokenHash(tokenHash).map(ActiveToken::of).orElse(null);
+    }
+
+    private String create(UUID userId, UUID sessionId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        String tokenHash = hash(rawToken);
+
+        Instant now = Instant.now();
+        RefreshToken saved = refreshTokenRepository
+                .save(new RefreshToken(tokenHash, userId, sessionId, now, now.plus(ttl)));
+        // Entra no cache só depois do commit, para não servir um token que não foi gravado
+        TransactionHooks.afterCommit(() -> activeTokens.put(tokenHash, ActiveToken.of(saved)));
+        return rawToken;
+    }
+
+    private void revokeSession(UUID sessionId) {
+        refreshTokenRepository.deleteBySessionId(sessionId);
+        activeTokens.asMap().values().removeIf(token -> token.sessionId().equals(sessionId));
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record ActiveToken(Long id, UUID userId, UUID sessionId, Instant expiresAt, boolean used) {
+        static ActiveToken of(RefreshToken token) {
+            return new ActiveToken(token.getId(), token.getUserId(), token.getSessionId(), token.getExpiresAt(),
+                    token.getUsedAt() != null);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package br.dev.mission.simplewallet.service.auth;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.dev.mission.simplewallet.model.TokenRevocation;
+import br.dev.mission.simplewallet.repository.auth.TokenRevocationRepository;
+import br.dev.mission.simplewallet.security.JwtUtil;
+import br.dev.mission.simplewallet.security.TokenClaims;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Lista de revogação de access tokens: por jti (logout) ou por usuário, para
+ * os tokens emitidos antes de um instante (troca de senha). As revogações
+ * vigentes ficam em memória atrás de um Bloom filter, então o caso comum, de
+ * token não revogado, custa só algumas sondagens de bits por requisição. O
+ * banco é a fonte da verdade: a lista é carregada na subida e recarregada
+ * periodicamente, o que também traz as revogações feitas por outras instâncias.
+ */
+@Service
+public class TokenRevocationService {
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationService.class);
+    private static final char TOKEN = 't';
+    private static final char USER = 'u';
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final Duration accessTokenTtl;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private final Object lock = new Object();
+    // Serializa as recargas sem segurar o lock dos add(); ReentrantLock não fixa virtual threads
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+    // Revogações feitas durante a consulta da recarga, reaplicadas no snapshot novo
+    private List<Consumer<Snapshot>> pendingAdds;
+
+    public TokenRevocationService(TokenRevocationRepository tokenRevocationRepository, JwtUtil jwtUtil,
+            @Value("${security.revocation.bloom.expected-insertions:10000}") int expectedInsertions,
+            @Value("${security.revocation.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.accessTokenTtl = Duration.ofSeconds(jwtUtil.getExpirationInSeconds());
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.snapshot = new Snapshot(new BloomFilter(expectedInsertions, falsePositiveRate));
+    }
+
+    @PostConstruct
+    public void load() {
+        reload();
+    }
+
+    public boolean isRevoked(TokenClaims claims) {
+        Snapshot current = snapshot;
+        String tokenId = claims.tokenId();
+        if (tokenId != null && current.filter.mightContain(TOKEN, tokenId)
+                && current.tokens.containsKey(tokenId)) {
+            return true;
+        }
+        String userId = claims.userId();
+        if (userId != null && current.filter.mightContain(USER, userId)) {
+            Instant cutoff = current.users.get(userId);
+            return cutoff != null && (claims.issuedAt() == null || !claims.issuedAt().isAfter(cutoff));
+        }
+        return false;
+    }
+
+    /**
+     * Revoga um único access token até a sua expiração. Tokens sem jti não
+     * podem ser revogados individualmente.
+     */
+    @Transactional
+    public void revokeToken(String tokenId, Instant expiresAt) {
+        if (tokenId == null) {
+            return;
+        }
+        tokenRevocationRepository.save(TokenRevocation.ofToken(tokenId, Instant.now(), expiresAt));
+        TransactionHooks.afterCommit(() -> add(TOKEN, tokenId, expiresAt));
+    }
+
+    /**
+     * Revoga todos os access tokens do usuário emitidos até agora. O iat do JWT
+     * tem resolução de segundos, então o corte é truncado no segundo e os
+     * tokens emitidos nesse mesmo segundo também caem; só valem os emitidos a
+     * partir do segundo seguinte.
+     */
+    @Transactional
+    public void revokeUser(UUID userId) {
+        Instant cutoff = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        tokenRevocationRepository.save(TokenRevocation.ofUser(userId, cutoff, cutoff.plus(accessTokenTtl)));
+        TransactionHooks.afterCommit(() -> add(USER, userId.toString(), cutoff));
+    }
+
+    /**
+     * Apaga as revogações vencidas e reconstrói o filtro a partir do banco.
+     */
+    @Scheduled(fixedDelayString = "${security.revocation.reload-interval:1m}",
+            initialDelayString = "${security.revocation.reload-interval:1m}")
+    @Transactional
+    public void purgeAndReload() {
+        tokenRevocationRepository.deleteExpired(Instant.now());
+        reload();
+    }
+
+    /**
+     * A consulta roda fora do lock, para não bloquear as revogações nem fixar
+     * virtual threads durante o JDBC. Os add() feitos enquanto isso vão para o
+     * snapshot corrente e para pendingAdds, e são reaplicados no novo antes da
+     * troca.
+     */
+    private void reload() {
+        reloadLock.lock();
+        try {
+            synchronized (lock) {
+                pendingAdds = new ArrayList<>();
+            }
+            List<TokenRevocation> revocations = tokenRevocationRepository.findByExpiresAtAfter(Instant.now());
+            // Folga para as revogações feitas até a próxima recarga sem degradar o filtro
+            Snapshot next = new Snapshot(
+                    new BloomFilter(Math.max(expectedInsertions, revocations.size() * 2), falsePositiveRate));
+            for (TokenRevocation revocation : revocations) {
+                if (revocation.getJti() != null) {
+                    next.add(TOKEN, revocation.getJti(), revocation.getExpiresAt());
+                } else {
+                    next.add(USER, revocation.getUserId().toString(), revocation.getRevokedAt());
+                }
+            }
+            synchronized (lock) {
+                pendingAdds.forEach(pending -> pending.accept(next));
+                snapshot = next;
+            }
+            log.debug("{} revogações de access token carregadas", revocations.size());
+        } finally {
+            synchronized (lock) {
+                pendingAdds = null;
+            }
+            reloadLock.unlock();
+        }
+    }
+
+    private void add(char type, String key, Instant instant) {
+        synchronized (lock) {
+            snapshot.add(type, key, instant);
+            if (pendingAdds != null) {
+                pendingAdds.add(next -> next.add(type, key, instant));
+            }
+        }
+    }
+
+    /**
+     * Revogações novas entram no snapshot corrente; a recarga troca o snapshot
+     * inteiro, descartando do filtro as chaves vencidas.
+     */
+    private static final class Snapshot {
+        final BloomFilter filter;
+        // jti -> expiração do token
+        final Map<String, Instant> tokens = new ConcurrentHashMap<>();
+        // userId -> tokens emitidos antes deste instante estão revogados
+        final Map<String, Instant> users = new ConcurrentHashMap<>();
+
+        Snapshot(BloomFilter filter) {
+            this.filter = filter;
+        }
+
+        void add(char type, String key, Instant instant) {
+            if (type == TOKEN) {
+                tokens.put(key, instant);
+            } else {
+                users.merge(key, instant, (a, b) -> a.isAfter(b) ? a : b);
+            }
+            // O filtro só recebe a chave depois dos mapas, para um "talvez" nunca faltar na confirmação
+            filter.put(type, key);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package br.dev.mission.simplewallet.service.auth;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+final class TransactionHooks {
+    private TransactionHooks() {
+    }
+
+    /**
+     * Executa a ação depois do commit da transação corrente, ou na hora quando
+     * não há transação.
+     */
+    static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
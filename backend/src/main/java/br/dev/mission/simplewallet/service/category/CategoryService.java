@@ -5,15 +5,17 @@ import br.dev.mission.simplewallet.dto.category.CategoryResponse;
 import br.dev.mission.simplewallet.mapper.category.CategoryMapper;
 import br.dev.mission.simplewallet.model.Category;
 import br.dev.mission.simplewallet.repository.category.CategoryRepository;
+import br.dev.mission.simplewallet.repository.recurrence.RecurrenceRuleRepository;
 import br.dev.mission.simplewallet.repository.transaction.TransactionRepository;
-import br.dev.mission.simplewallet.repository.user.UserRepository;
+import br.dev.mission.simplewallet.service.user.DataVersionService;
+import br.dev.mission.simplewallet.service.user.FamilyCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 @Service
 public class CategoryService {
@@ -24,11 +26,18 @@ public class CategoryService {
     @Autowired
     private TransactionRepository transactionRepository;
     @Autowired
-    private UserRepository userRepository;
+    private RecurrenceRuleRepository recurrenceRuleRepository;
+    @Autowired
+    private FamilyCache familyCache;
+    @Autowired
+    private DataVersionService dataVersionService;
 
+    @Transactional
     public CategoryResponse create(CategoryRequest request, String userId) {
         Category category = categoryMapper.toEntity(request, userId);
-        return categoryMapper.toResponse(categoryRepository.save(category));
+        CategoryResponse response = categoryMapper.toResponse(categoryRepository.save(category));
+        dataVersionService.bump(userId);
+        return response;
     }
 
     public List<CategoryResponse> findByUserId(String userId) {
@@ -36,17 +45,8 @@ public class CategoryService {
     }
 
     public List<CategoryResponse> findAllForFamily(String userId) {
-        // Criar lista com o userId atual
-        List<String> userIds = new java.util.ArrayList<>();
-        userIds.add(userId);
-        
-        // Buscar todos os filhos (usuários que têm este usuário como parent) e adicionar à lista
-        List<String> childrenIds = userRepository.findByParentId(UUID.fromString(userId))
-                .stream()
-                .map(user -> user.getId().toString())
-                .toList();
-        userIds.addAll(childrenIds);
-        
+        List<String> userIds = familyCache.familyUserIds(userId);
+
         // Buscar todas as categorias em uma única consulta
         List<Category> categories = categoryRepository.findByUserIdIn(userIds);
         
@@ -59,23 +59,29 @@ public class CategoryService {
                 .map(categoryMapper::toResponse);
     }
 
+    @Transactional
     public Optional<CategoryResponse> update(Long id, CategoryRequest request, String userId) {
         return categoryRepository.findById(id)
                 .filter(cat -> cat.getUserId().equals(userId))
                 .map(cat -> {
                     categoryMapper.updateEntity(cat, request);
-                    return categoryMapper.toResponse(categoryRepository.save(cat));
+                    CategoryResponse response = categoryMapper.toResponse(categoryRepository.save(cat));
+                    dataVersionService.bump(userId);
+                    return response;
                 });
     }
 
+    @Transactional
     public boolean delete(Long id, String userId) {
         return categoryRepository.findById(id)
                 .filter(cat -> cat.getUserId().equals(userId))
                 .map(cat -> {
-                    if (transactionRepository.existsByCategory(cat.getId())) {
+                    if (transactionRepository.existsByCategory(cat.getId())
+                            || recurrenceRuleRepository.existsByCategory(cat.getId())) {
                         throw new DataIntegrityViolationException("Não é possível remover a categoria pois existem transações vinculadas.");
                     }
                     categoryRepository.delete(cat);
+                    dataVersionService.bump(userId);
                     return true;
                 }).orElse(false);
     }
@@ -1,8 +1,10 @@
 package br.dev.mission.simplewallet.service.loan;
 
 import java.util.List;
+import java.util.UUID;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import br.dev.mission.simplewallet.dto.loan.LoanRequest;
 import br.dev.mission.simplewallet.dto.loan.LoanResponse;
@@ -21,15 +23,19 @@ public class LoanService {
         this.loanMapper = loanMapper;
     }
 
+    @Transactional
     public LoanResponse createLoan(LoanRequest request, String userId) {
 
-        TransactionResponse creditInAccount = transactionService.create(loanMapper.toTransactionRequest(request), userId);
+        // Crédito (origem) e parcelas ficam no mesmo grupo
+        UUID groupId = UUID.randomUUID();
+        TransactionResponse creditInAccount = transactionService.create(loanMapper.toTransactionRequest(request), userId,
+            groupId);
 
         List<TransactionResponse> installments = transactionService.installments(
             loanMapper.toTransactionRequestInstallment(request), 
             request.qtdeInstallments(),
             userId, 
-            creditInAccount.id()
+            groupId
         );
 
         return new LoanResponse(
@@ -46,6 +52,7 @@ public class LoanService {
             creditInAccount.category(),
             creditInAccount.userId(), 
             creditInAccount.username(), 
+            groupId,
             installments.stream()
                 .map(installment -> new LoanResponse.InstallmentResponse(
                     installment.dueDate(), 
@@ -0,0 +1,268 @@
+package br.dev.mission.simplewallet.service.recurrence;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.dev.mission.simplewallet.dto.recurrence.RecurrenceOccurrenceResponse;
+import br.dev.mission.simplewallet.dto.recurrence.RecurrenceRequest;
+import br.dev.mission.simplewallet.dto.recurrence.RecurrenceResponse;
+import br.dev.mission.simplewallet.dto.transaction.TransactionEffectivationRequest;
+import br.dev.mission.simplewallet.dto.transaction.TransactionRequest;
+import br.dev.mission.simplewallet.dto.transaction.TransactionResponse;
+import br.dev.mission.simplewallet.exception.ForbiddenResourceException;
+import br.dev.mission.simplewallet.mapper.recurrence.RecurrenceMapper;
+import br.dev.mission.simplewallet.mapper.transaction.TransactionMapper;
+import br.dev.mission.simplewallet.model.RecurrenceFrequency;
+import br.dev.mission.simplewallet.model.RecurrenceRule;
+import br.dev.mission.simplewallet.model.Transaction;
+import br.dev.mission.simplewallet.repository.account.AccountRepository;
+import br.dev.mission.simplewallet.repository.category.CategoryRepository;
+import br.dev.mission.simplewallet.repository.recurrence.RecurrenceExceptionRepository;
+import br.dev.mission.simplewallet.repository.recurrence.RecurrenceRuleRepository;
+import br.dev.mission.simplewallet.repository.transaction.TransactionRepository;
+import br.dev.mission.simplewallet.service.transaction.TransactionProjectionService;
+import br.dev.mission.simplewallet.service.transaction.TransactionService;
+
+/**
+ * Lançamentos recorrentes guardados como uma regra por plano. As ocorrências
+ * são expandidas em memória para o intervalo consultado e só viram linhas em
+ * tb_transactions (com recurrence_id e recurrence_date) quando editadas ou
+ * efetivadas; a partir daí seguem o fluxo normal de transações, inclusive
+ * saldos e totais mensais. Ocorrências virtuais não entram nesses totais.
+ * Ocorrências removidas ficam como exceção da regra (tb_recurrence_exceptions)
+ * e não voltam na expansão.
+ */
+@Service
+public class RecurrenceService {
+    private static final int MAX_RANGE_YEARS = 10;
+
+    @Autowired
+    private RecurrenceRuleRepository recurrenceRuleRepository;
+    @Autowired
+    private RecurrenceExceptionRepository recurrenceExceptionRepository;
+    @Autowired
+    private TransactionRepository transactionRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private RecurrenceMapper recurrenceMapper;
+    @Autowired
+    private TransactionMapper transactionMapper;
+    @Autowired
+    private TransactionService transactionService;
+    @Autowired
+    private TransactionProjectionService transactionProjectionService;
+
+    @Transactional
+    public RecurrenceResponse create(RecurrenceRequest request, String userId) {
+        if (request.amount() == null || request.type() == null || request.frequency() == null
+                || request.startDate() == null) {
+            throw new IllegalArgumentException("amount, type, frequency e startDate são obrigatórios");
+        }
+        if (request.occurrences() != null && request.occurrences() < 1) {
+            throw new IllegalArgumentException("occurrences deve ser maior que zero");
+        }
+        checkOwnership(request.accountId(), request.categoryId(), userId);
+
+        RecurrenceRule rule = recurrenceMapper.toEntity(request, userId);
+        // endDate passa a ser a data da última ocorrência, o que mantém a busca por intervalo num único predicado
+        if (rule.getOccurrences() != null) {
+            LocalDate last = rule.getFrequency().occurrence(rule.getStartDate(), rule.getOccurrences() - 1L);
+            if (rule.getEndDate() == null || last.isBefore(rule.getEndDate())) {
+                rule.setEndDate(last);
+            }
+        }
+        if (rule.getEndDate() != null && rule.getEndDate().isBefore(rule.getStartDate())) {
+            throw new IllegalArgumentException("endDate anterior a startDate");
+        }
+        return recurrenceMapper.toResponse(recurrenceRuleRepository.save(rule));
+    }
+
+    public List<RecurrenceResponse> findAll(String userId) {
+        return recurrenceRuleRepository.findByUserIdOrderByStartDateAscIdAsc(userId).stream()
+                .map(recurrenceMapper::toResponse)
+                .toList();
+    }
+
+    public Optional<RecurrenceResponse> findById(Long id, String userId) {
+        return findOwned(id, userId).map(recurrenceMapper::toResponse);
+    }
+
+    /**
+     * Remove a regra; as ocorrências já materializadas ficam como transações
+     * avulsas.
+     */
+    @Transactional
+    public boolean delete(Long id, String userId) {
+        return findOwned(id, userId).map(rule -> {
+            transactionRepository.detachRecurrence(rule.getId());
+            recurrenceExceptionRepository.deleteByRecurrenceId(rule.getId());
+            recurrenceRuleRepository.delete(rule);
+            return true;
+        }).orElse(false);
+    }
+
+    /**
+     * Ocorrências de [from, to] do usuário ou da família: uma consulta para as
+     * regras ativas no intervalo, outra para as ocorrências já materializadas,
+     * que substituem as virtuais da mesma data, e outra para as datas
+     * excluídas.
+     */
+    @Transactional(readOnly = true)
+    public List<RecurrenceOccurrenceResponse> occurrences(String userId, boolean isParent, LocalDate from,
+            LocalDate to) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new IllegalArgumentException("dateFrom e dateTo são obrigatórios e dateFrom <= dateTo");
+        }
+        if (to.isAfter(from.plusYears(MAX_RANGE_YEARS))) {
+            throw new IllegalArgumentException("Intervalo máximo de " + MAX_RANGE_YEARS + " anos");
+        }
+        List<RecurrenceRule> rules = recurrenceRuleRepository
+                .findActive(transactionService.scopeUserIds(userId, isParent, null), from, to);
+        if (rules.isEmpty()) {
+            return List.of();
+        }
+        Map<OccurrenceKey, Transaction> materialized = transactionRepository
+                .findByRecurrenceIdInAndRecurrenceDateBetween(rules.stream().map(RecurrenceRule::getId).toList(),
+                        from, to)
+                .stream()
+                .collect(Collectors.toMap(tx -> new OccurrenceKey(tx.getRecurrenceId(), tx.getRecurrenceDate()),
+                        Function.identity()));
+        Set<OccurrenceKey> excluded = recurrenceExceptionRepository
+                .findByRecurrenceIdInAndExceptionDateBetween(rules.stream().map(RecurrenceRule::getId).toList(),
+                        from, to)
+                .stream()
+                .map(exception -> new OccurrenceKey(exception.getRecurrenceId(), exception.getExceptionDate()))
+                .collect(Collectors.toSet());
+
+        List<Transaction> occurrences = new ArrayList<>();
+        for (RecurrenceRule rule : rules) {
+            RecurrenceFrequency frequency = rule.getFrequency();
+            LocalDate last = rule.getEndDate() != null && rule.getEndDate().isBefore(to) ? rule.getEndDate() : to;
+            for (long index = frequency.firstIndexFrom(rule.getStartDate(), from);; index++) {
+                LocalDate date = frequency.occurrence(rule.getStartDate(), index);
+                if (date.isAfter(last)) {
+                    break;
+                }
+                OccurrenceKey key = new OccurrenceKey(rule.getId(), date);
+                if (excluded.contains(key)) {
+                    continue;
+                }
+                Transaction transaction = materialized.get(key);
+                occurrences.add(transaction != null ? transaction : recurrenceMapper.toOccurrence(rule, date));
+            }
+        }
+        occurrences.sort(Comparator.comparing(Transaction::getRecurrenceDate)
+                .thenComparing(Transaction::getRecurrenceId));
+
+        // Nomes de conta, categoria e usuário resolvidos em lote para a lista inteira
+        List<TransactionResponse> responses = transactionMapper.toResponseList(occurrences);
+        List<RecurrenceOccurrenceResponse> result = new ArrayList<>(occurrences.size());
+        for (int i = 0; i < occurrences.size(); i++) {
+            Transaction occurrence = occurrences.get(i);
+            result.add(new RecurrenceOccurrenceResponse(occurrence.getRecurrenceId(), occurrence.getRecurrenceDate(),
+                    occurrence.getId() != null, responses.get(i)));
+        }
+        return result;
+    }
+
+    /**
+     * Edita uma ocorrência, materializando-a na primeira vez.
+     */
+    @Transactional
+    public Optional<TransactionResponse> updateOccurrence(Long id, LocalDate date, TransactionRequest request,
+            String userId) {
+        Optional<RecurrenceRule> rule = findOccurring(id, date, userId);
+        if (rule.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<Transaction> existing = transactionRepository.findByRecurrenceIdAndRecurrenceDate(id, date);
+        if (existing.isPresent()) {
+            return transactionService.update(existing.get().getId(), request, userId);
+        }
+        checkOwnership(request.accountId(), request.categoryId(), userId);
+        Transaction transaction = transactionMapper.toEntity(request, userId);
+        transaction.setRecurrenceId(id);
+        transaction.setRecurrenceDate(date);
+        return Optional.of(materialize(transaction));
+    }
+
+    /**
+     * Efetiva uma ocorrência, materializando-a na primeira vez.
+     */
+    @Transactional
+    public Optional<TransactionResponse> effectiveOccurrence(Long id, LocalDate date,
+            TransactionEffectivationRequest request, String userId) {
+        Optional<RecurrenceRule> rule = findOccurring(id, date, userId);
+        if (rule.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<Transaction> existing = transactionRepository.findByRecurrenceIdAndRecurrenceDate(id, date);
+        if (existing.isPresent()) {
+            return transactionService.effective(existing.get().getId(), request, userId);
+        }
+        Transaction transaction = recurrenceMapper.toOccurrence(rule.get(), date);
+        transaction.setEffectiveDate(request.effectiveDate());
+        transaction.setEffectiveAmount(request.effectiveAmount());
+        return Optional.of(materialize(transaction));
+    }
+
+    /**
+     * Remove uma ocorrência, materializada ou não, e exclui a data da regra.
+     */
+    @Transactional
+    public boolean deleteOccurrence(Long id, LocalDate date, String userId) {
+        if (findOwned(id, userId).filter(rule -> rule.occursOn(date)).isEmpty()) {
+            return false;
+        }
+        transactionRepository.findByRecurrenceIdAndRecurrenceDate(id, date).ifPresent(transaction -> {
+            transactionRepository.delete(transaction);
+            transactionProjectionService.deleted(transaction);
+        });
+        recurrenceExceptionRepository.exclude(id, date);
+        return true;
+    }
+
+    private TransactionResponse materialize(Transaction transaction) {
+        Transaction saved = transactionRepository.save(transaction);
+        transactionProjectionService.created(saved);
+        return transactionMapper.toResponse(saved);
+    }
+
+    private Optional<RecurrenceRule> findOwned(Long id, String userId) {
+        return recurrenceRuleRepository.findById(id).filter(rule -> rule.getUserId().equals(userId));
+    }
+
+    // Data excluída conta como ocorrência inexistente
+    private Optional<RecurrenceRule> findOccurring(Long id, LocalDate date, String userId) {
+        return findOwned(id, userId).filter(rule -> rule.occursOn(date)
+                && !recurrenceExceptionRepository.existsByRecurrenceIdAndExceptionDate(id, date));
+    }
+
+    private void checkOwnership(Long accountId, Long categoryId, String userId) {
+        if (accountId == null || !accountRepository.findById(accountId)
+                .filter(acc -> acc.getUserId().equals(userId)).isPresent()) {
+            throw new ForbiddenResourceException("Conta não pertence ao usuário logado");
+        }
+        if (categoryId == null || !categoryRepository.findById(categoryId)
+                .filter(cat -> cat.getUserId().equals(userId)).isPresent()) {
+            throw new ForbiddenResourceException("Categoria não pertence ao usuário logado");
+        }
+    }
+
+    private record OccurrenceKey(Long recurrenceId, LocalDate date) {
+    }
+}
@@ -0,0 +1,98 @@
+package br.dev.mission.simplewallet.service.report;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+import br.dev.mission.simplewallet.model.MonthlyRollup;
+import br.dev.mission.simplewallet.model.Transaction;
+import br.dev.mission.simplewallet.model.TransactionType;
+
+/**
+ * Chave e valores de uma linha de tb_monthly_rollups. Serve tanto como delta
+ * de uma transação quanto como linha lida, com os mesmos critérios do
+ * relatório: paid usa effectiveAmount (ou amount) das efetivadas e pending o
+ * amount das demais. Como cada linha tem um único tipo, paid e pending ficam
+ * sem sinal aqui; o relatório subtrai os das despesas ao montar as linhas.
+ */
+public record MonthlyRollupEntry(
+    String userId,
+    String yearMonth,
+    Long accountId,
+    Long category,
+    TransactionType type,
+    long count,
+    BigDecimal income,
+    BigDecimal expense,
+    BigDecimal paid,
+    BigDecimal pending
+) {
+
+    /** Transações sem vencimento não entram em nenhum mês. */
+    public static MonthlyRollupEntry of(Transaction transaction) {
+        if (transaction.getDueDate() == null) {
+            return null;
+        }
+        BigDecimal amount = transaction.getAmount();
+        boolean settled = transaction.getEffectiveDate() != null;
+        BigDecimal paid = settled
+                ? (transaction.getEffectiveAmount() != null ? transaction.getEffectiveAmount() : amount)
+                : BigDecimal.ZERO;
+        return new MonthlyRollupEntry(
+                transaction.getUserId(),
+                YearMonth.from(transaction.getDueDate()).toString(),
+                transaction.getAccountId(),
+                transaction.getCategory(),
+                transaction.getType(),
+                1,
+                transaction.getType() == TransactionType.IN ? amount : BigDecimal.ZERO,
+                transaction.getType() == TransactionType.EX ? amount : BigDecimal.ZERO,
+                paid,
+                settled ? BigDecimal.ZERO : amount);
+    }
+
+    public static MonthlyRollupEntry of(MonthlyRollup rollup) {
+        return new MonthlyRollupEntry(rollup.getUserId(), rollup.getYearMonth(), rollup.getAccountId(),
+                rollup.getCategory(), rollup.getType(), rollup.getCount(), rollup.getIncome(), rollup.getExpense(),
+                rollup.getPaid(), rollup.getPending());
+    }
+
+    public boolean sameKey(MonthlyRollupEntry other) {
+        return userId.equals(other.userId) && yearMonth.equals(other.yearMonth)
+                && accountId.equals(other.accountId) && category.equals(other.category) && type == other.type;
+    }
+
+    public String key() {
+        return userId + "|" + yearMonth + "|" + accountId + "|" + category + "|" + type.getCode();
+    }
+
+    public MonthlyRollupEntry plus(MonthlyRollupEntry other) {
+        return new MonthlyRollupEntry(userId, yearMonth, accountId, category, type, count + other.count,
+                income.add(other.income), expense.add(other.expense), paid.add(other.paid),
+                pending.add(other.pending));
+    }
+
+    public boolean isZero() {
+        return count == 0 && income.signum() == 0 && expense.signum() == 0 && paid.signum() == 0
+                && pending.signum() == 0;
+    }
+
+    public MonthlyRollupEntry negate() {
+        return new MonthlyRollupEntry(userId, yearMonth, accountId, category, type, -count, income.negate(),
+                expense.negate(), paid.negate(), pending.negate());
+    }
+
+    public MonthlyRollup toEntity() {
+        MonthlyRollup rollup = new MonthlyRollup();
+        rollup.setUserId(userId);
+        rollup.setYearMonth(yearMonth);
+        rollup.setAccountId(accountId);
+        rollup.setCategory(category);
+        rollup.setType(type);
+        rollup.setCount(count);
+        rollup.setIncome(income);
+        rollup.setExpense(expense);
+        rollup.setPaid(paid);
+        rollup.setPending(pending);
+        return rollup;
+    }
+}
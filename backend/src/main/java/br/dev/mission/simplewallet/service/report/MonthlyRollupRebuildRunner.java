@@ -0,0 +1,30 @@
+package br.dev.mission.simplewallet.service.report;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Backfill/reparo de tb_monthly_rollups na subida da aplicação, ativado com
+ * {@code --rebuild-rollups}.
+ */
+@Component
+public class MonthlyRollupRebuildRunner implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(MonthlyRollupRebuildRunner.class);
+
+    private final MonthlyRollupService monthlyRollupService;
+
+    public MonthlyRollupRebuildRunner(MonthlyRollupService monthlyRollupService) {
+        this.monthlyRollupService = monthlyRollupService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption("rebuild-rollups")) {
+            int rows = monthlyRollupService.rebuildAll();
+            log.info("tb_monthly_rollups recalculada: {} linhas", rows);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package br.dev.mission.simplewallet.service.report;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.dev.mission.simplewallet.model.Transaction;
+import br.dev.mission.simplewallet.repository.report.MonthlyRollupRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Mantém tb_monthly_rollups a cada escrita de transação e atende leituras por
+ * mês. Meses já encerrados ficam em cache sem expiração; uma escrita que
+ * ainda caia num mês encerrado (edição retroativa) remove a entrada daquele
+ * usuário e mês depois do commit.
+ */
+@Service
+public class MonthlyRollupService implements MeterBinder {
+    @Autowired
+    private MonthlyRollupRepository monthlyRollupRepository;
+
+    private final Cache<String, List<MonthlyRollupEntry>> closedMonths;
+
+    public MonthlyRollupService(@Value("${report.rollup.cache.max-size:100000}") long maxSize) {
+        this.closedMonths = Caffeine.newBuilder().maximumSize(maxSize).recordStats().build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, closedMonths, "report.rollups");
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Transaction transaction) {
+        apply(MonthlyRollupEntry.of(transaction));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void revert(Transaction transaction) {
+        MonthlyRollupEntry entry = MonthlyRollupEntry.of(transaction);
+        if (entry != null) {
+            apply(entry.negate());
+        }
+    }
+
+    /** Troca a contribuição anterior de uma transação alterada pela atual. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void replace(MonthlyRollupEntry before, Transaction after) {
+        MonthlyRollupEntry current = MonthlyRollupEntry.of(after);
+        if (before != null && current != null && before.sameKey(current)) {
+            apply(current.plus(before.negate()));
+            return;
+        }
+        if (before != null) {
+            apply(before.negate());
+        }
+        apply(current);
+    }
+
+    /** Uma escrita por chave, independente do número de transações. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyAll(Collection<Transaction> transactions) {
+        Map<String, MonthlyRollupEntry> byKey = new LinkedHashMap<>();
+        for (Transaction transaction : transactions) {
+            merge(byKey, MonthlyRollupEntry.of(transaction));
+        }
+        byKey.values().forEach(this::apply);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void revertAll(Collection<Transaction> transactions) {
+        Map<String, MonthlyRollupEntry> byKey = new LinkedHashMap<>();
+        for (Transaction transaction : transactions) {
+            MonthlyRollupEntry entry = MonthlyRollupEntry.of(transaction);
+            merge(byKey, entry != null ? entry.negate() : null);
+        }
+        byKey.values().forEach(this::apply);
+    }
+
+    /**
+     * Versão em lote de {@link #replace}. Chaves cujo efeito se anula (ex.:
+     * parcela reagendada dentro do mesmo mês) não geram escrita.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void replaceAll(Collection<MonthlyRollupEntry> before, Collection<Transaction> after) {
+        Map<String, MonthlyRollupEntry> byKey = new LinkedHashMap<>();
+        for (MonthlyRollupEntry entry : before) {
+            merge(byKey, entry != null ? entry.negate() : null);
+        }
+        for (Transaction transaction : after) {
+            merge(byKey, MonthlyRollupEntry.of(transaction));
+        }
+        byKey.values().stream().filter(entry -> !entry.isZero()).forEach(this::apply);
+    }
+
+    /**
+     * Linhas dos usuários no intervalo de meses. Meses encerrados vêm do cache
+     * e os faltantes são lidos numa única consulta.
+     */
+    @Transactional(readOnly = true)
+    public List<MonthlyRollupEntry> find(List<String> userIds, YearMonth from, YearMonth to) {
+        YearMonth current = YearMonth.now();
+        List<MonthlyRollupEntry> result = new ArrayList<>();
+        Set<String> missingUsers = new LinkedHashSet<>();
+        Set<String> missingMonths = new LinkedHashSet<>();
+
+        for (String userId : userIds) {
+            for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+                List<MonthlyRollupEntry> cached = month.isBefore(current)
+                        ? closedMonths.getIfPresent(cacheKey(userId, month.toString()))
+                        : null;
+                if (cached != null) {
+                    result.addAll(cached);
+                } else {
+                    missingUsers.add(userId);
+                    missingMonths.add(month.toString());
+                }
+            }
+        }
+        if (missingUsers.isEmpty()) {
+            return result;
+        }
+
+        Map<String, List<MonthlyRollupEntry>> loaded = new HashMap<>();
+        monthlyRollupRepository.findByUserIdInAndYearMonthIn(missingUsers, missingMonths).stream()
+                .map(MonthlyRollupEntry::of)
+                .forEach(entry -> loaded.computeIfAbsent(cacheKey(entry.userId(), entry.yearMonth()),
+                        key -> new ArrayList<>()).add(entry));
+
+        // A consulta cobre o produto usuários x meses; só entram os pares que faltavam
+        for (String userId : missingUsers) {
+            for (String month : missingMonths) {
+                String key = cacheKey(userId, month);
+                if (closedMonths.getIfPresent(key) != null) {
+                    continue;
+                }
+                List<MonthlyRollupEntry> entries = List.copyOf(loaded.getOrDefault(key, List.of()));
+                result.addAll(entries);
+                if (YearMonth.parse(month).isBefore(current)) {
+                    closedMonths.put(key, entries);
+                }
+            }
+        }
+        return result;
+    }
+
+    /** Recalcula do zero as linhas dos usuários a partir das transações. */
+    @Transactional
+    public int rebuild(Collection<String> userIds) {
+        monthlyRollupRepository.deleteByUserIds(userIds);
+        int rows = monthlyRollupRepository.insertFromTransactions(userIds);
+        closedMonths.invalidateAll();
+        return rows;
+    }
+
+    @Transactional
+    public int rebuildAll() {
+        List<String> userIds = monthlyRollupRepository.findTransactionUserIds();
+        return userIds.isEmpty() ? 0 : rebuild(userIds);
+    }
+
+    private void apply(MonthlyRollupEntry entry) {
+        if (entry == null) {
+            return;
+        }
+        monthlyRollupRepository.addToTotals(entry.toEntity());
+        evictAfterCommit(cacheKey(entry.userId(), entry.yearMonth()));
+    }
+
+    private void evictAfterCommit(String key) {
+        closedMonths.invalidate(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    closedMonths.invalidate(key);
+                }
+            });
+        }
+    }
+
+    private static void merge(Map<String, MonthlyRollupEntry> byKey, MonthlyRollupEntry entry) {
+        if (entry != null) {
+            byKey.merge(entry.key(), entry, MonthlyRollupEntry::plus);
+        }
+    }
+
+    private static String cacheKey(String userId, String yearMonth) {
+        return userId + "|" + yearMonth;
+    }
+}
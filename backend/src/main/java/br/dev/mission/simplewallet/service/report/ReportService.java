@@ -0,0 +1,146 @@
+package br.dev.mission.simplewallet.service.report;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.dev.mission.simplewallet.dto.report.ReportGroup;
+import br.dev.mission.simplewallet.dto.report.ReportResponse;
+import br.dev.mission.simplewallet.dto.report.ReportRow;
+import br.dev.mission.simplewallet.dto.transaction.TransactionFilter;
+import br.dev.mission.simplewallet.model.Account;
+import br.dev.mission.simplewallet.model.Category;
+import br.dev.mission.simplewallet.model.TransactionType;
+import br.dev.mission.simplewallet.model.User;
+import br.dev.mission.simplewallet.repository.account.AccountRepository;
+import br.dev.mission.simplewallet.repository.category.CategoryRepository;
+import br.dev.mission.simplewallet.repository.transaction.TransactionRepository;
+import br.dev.mission.simplewallet.repository.transaction.TransactionSpecifications;
+import br.dev.mission.simplewallet.repository.user.UserRepository;
+import br.dev.mission.simplewallet.service.user.FamilyCache;
+
+@Service
+public class ReportService {
+    @Autowired
+    private TransactionRepository transactionRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private FamilyCache familyCache;
+    @Autowired
+    private MonthlyRollupService monthlyRollupService;
+
+    @Transactional(readOnly = true)
+    public ReportResponse aggregate(String userId, boolean isParent, TransactionFilter filter, Set<ReportGroup> groups) {
+        List<String> userIds = isParent ? familyCache.familyUserIds(userId) : List.of(userId);
+        List<ReportRow> rows = usesRollups(filter)
+                ? fromRollups(userIds, filter, groups)
+                : transactionRepository.aggregate(userIds, filter, groups);
+        return new ReportResponse(groups, resolveNames(rows));
+    }
+
+    /**
+     * Refaz os totais mensais do usuário (ou da família) a partir das
+     * transações, para reparar divergências.
+     */
+    public int rebuildRollups(String userId, boolean isParent) {
+        return monthlyRollupService.rebuild(isParent ? familyCache.familyUserIds(userId) : List.of(userId));
+    }
+
+    /**
+     * Os totais mensais atendem intervalos de meses inteiros por vencimento;
+     * qualquer outro filtro de data ou texto segue para o GROUP BY em
+     * tb_transactions.
+     */
+    private static boolean usesRollups(TransactionFilter filter) {
+        return filter.dateFrom() != null && filter.dateTo() != null
+                && filter.dateFrom().getDayOfMonth() == 1
+                && filter.dateTo().equals(YearMonth.from(filter.dateTo()).atEndOfMonth())
+                && !filter.dateFrom().isAfter(filter.dateTo())
+                && TransactionSpecifications.DATE_TYPE_DUE.equals(TransactionSpecifications.dateField(filter.dateType()))
+                && (filter.description() == null || filter.description().isBlank())
+                && (filter.username() == null || filter.username().isBlank())
+                && filter.status() == null;
+    }
+
+    private List<ReportRow> fromRollups(List<String> userIds, TransactionFilter filter, Set<ReportGroup> groups) {
+        Map<List<Object>, ReportRow> rows = new HashMap<>();
+        for (MonthlyRollupEntry entry : monthlyRollupService.find(userIds, YearMonth.from(filter.dateFrom()),
+                YearMonth.from(filter.dateTo()))) {
+            if (entry.count() == 0
+                    || (filter.accountId() != null && !filter.accountId().equals(entry.accountId()))
+                    || (filter.categoryId() != null && !filter.categoryId().equals(entry.category()))
+                    || (filter.type() != null && !filter.type().equals(entry.type().getCode()))) {
+                continue;
+            }
+            // Cada linha de tb_monthly_rollups tem um único tipo e guarda paid e
+            // pending sem sinal; no relatório eles são líquidos, como no GROUP BY
+            BigDecimal sign = entry.type() == TransactionType.EX ? BigDecimal.ONE.negate() : BigDecimal.ONE;
+            ReportRow row = new ReportRow(
+                    groups.contains(ReportGroup.MONTH) ? entry.yearMonth() : null,
+                    groups.contains(ReportGroup.ACCOUNT) ? entry.accountId() : null,
+                    null,
+                    groups.contains(ReportGroup.CATEGORY) ? entry.category() : null,
+                    null,
+                    groups.contains(ReportGroup.TYPE) ? entry.type().getCode() : null,
+                    groups.contains(ReportGroup.USER) ? entry.userId() : null,
+                    null,
+                    entry.count(), entry.income(), entry.expense(), entry.paid().multiply(sign),
+                    entry.pending().multiply(sign));
+            List<Object> key = Arrays.asList(row.month(), row.accountId(), row.categoryId(), row.type(),
+                    row.userId());
+            rows.merge(key, row, ReportService::sum);
+        }
+        // Mesma ordem do GROUP BY em tb_transactions
+        return rows.values().stream()
+                .sorted(Comparator.comparing(ReportRow::month, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+                        .thenComparing(ReportRow::accountId, Comparator.nullsFirst(Comparator.<Long>naturalOrder()))
+                        .thenComparing(ReportRow::categoryId, Comparator.nullsFirst(Comparator.<Long>naturalOrder()))
+                        .thenComparing(ReportRow::type, Comparator.nullsFirst(Comparator.<Integer>naturalOrder()))
+                        .thenComparing(ReportRow::userId, Comparator.nullsFirst(Comparator.<String>naturalOrder())))
+                .toList();
+    }
+
+    private static ReportRow sum(ReportRow a, ReportRow b) {
+        return new ReportRow(a.month(), a.accountId(), null, a.categoryId(), null, a.type(), a.userId(), null,
+                a.count() + b.count(), a.income().add(b.income()), a.expense().add(b.expense()),
+                a.paid().add(b.paid()), a.pending().add(b.pending()));
+    }
+
+    private List<ReportRow> resolveNames(List<ReportRow> rows) {
+        // Os nomes são resolvidos por grupo, com uma consulta por entidade
+        Map<Long, String> accounts = accountRepository
+                .findAllById(rows.stream().map(ReportRow::accountId).filter(Objects::nonNull).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Account::getId, Account::getDescription));
+        Map<Long, String> categories = categoryRepository
+                .findAllById(rows.stream().map(ReportRow::categoryId).filter(Objects::nonNull).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Category::getId, Category::getCategory));
+        Map<String, String> usernames = userRepository
+                .findAllById(rows.stream().map(ReportRow::userId).filter(Objects::nonNull).map(UUID::fromString)
+                        .collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(user -> user.getId().toString(), User::getUsername));
+
+        return rows.stream()
+                .map(row -> row.withNames(
+                        row.accountId() != null ? accounts.get(row.accountId()) : null,
+                        row.categoryId() != null ? categories.get(row.categoryId()) : null,
+                        row.userId() != null ? usernames.get(row.userId()) : null))
+                .toList();
+    }
+}
@@ -0,0 +1,150 @@
+package br.dev.mission.simplewallet.service.transaction;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.dev.mission.simplewallet.dto.transaction.TransactionExportFormat;
+import br.dev.mission.simplewallet.dto.transaction.TransactionFilter;
+import br.dev.mission.simplewallet.dto.transaction.TransactionResponse;
+import br.dev.mission.simplewallet.mapper.transaction.TransactionMapper;
+import br.dev.mission.simplewallet.model.Account;
+import br.dev.mission.simplewallet.model.Category;
+import br.dev.mission.simplewallet.model.Transaction;
+import br.dev.mission.simplewallet.model.TransactionType;
+import br.dev.mission.simplewallet.model.User;
+import br.dev.mission.simplewallet.repository.account.AccountRepository;
+import br.dev.mission.simplewallet.repository.category.CategoryRepository;
+import br.dev.mission.simplewallet.repository.transaction.TransactionRepository;
+import br.dev.mission.simplewallet.repository.transaction.TransactionSpecifications;
+import br.dev.mission.simplewallet.repository.user.UserRepository;
+import br.dev.mission.simplewallet.util.LocalDateConverter;
+
+/**
+ * Exportação de transações em CSV ou NDJSON. As linhas são lidas por cursor e
+ * escritas na saída à medida que chegam, com uso de memória constante.
+ */
+@Service
+public class TransactionExportService {
+    private static final String CSV_HEADER = "id,dueDate,effectiveDate,description,amount,effectiveAmount,type,status,"
+            + "accountId,account,categoryId,category,username";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(LocalDateConverter.DATE_FORMAT);
+
+    @Autowired
+    private TransactionService transactionService;
+    @Autowired
+    private TransactionRepository transactionRepository;
+    @Autowired
+    private TransactionMapper transactionMapper;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void export(String userId, boolean isParent, TransactionFilter filter, Sort sort,
+            TransactionExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == TransactionExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        List<String> userIds = transactionService.scopeUserIds(userId, isParent, filter.username());
+        if (!userIds.isEmpty()) {
+            // Contas, categorias e usuários do escopo são poucos: carregados uma vez
+            Map<Long, String> accounts = accountRepository.findByUserIdIn(userIds).stream()
+                    .collect(Collectors.toMap(Account::getId, Account::getDescription));
+            Map<Long, String> categories = categoryRepository.findByUserIdIn(userIds).stream()
+                    .collect(Collectors.toMap(Category::getId, Category::getCategory));
+            Map<String, String> usernames = userRepository
+                    .findAllById(userIds.stream().map(UUID::fromString).toList()).stream()
+                    .collect(Collectors.toMap(user -> user.getId().toString(), User::getUsername));
+
+            try (Stream<Transaction> transactions = transactionRepository
+                    .streamAll(TransactionSpecifications.forUsers(userIds, filter), sort)) {
+                transactions.forEach(tx -> {
+                    TransactionResponse response = transactionMapper.toResponse(tx,
+                            accounts.get(tx.getAccountId()), categories.get(tx.getCategory()),
+                            usernames.get(tx.getUserId()));
+                    try {
+                        if (format == TransactionExportFormat.CSV) {
+                            writeCsv(writer, response);
+                        } else {
+                            writer.write(objectMapper.writeValueAsString(response));
+                            writer.write('\n');
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        }
+        writer.flush();
+    }
+
+    private static void writeCsv(Writer writer, TransactionResponse tx) throws IOException {
+        writer.write(String.valueOf(tx.id()));
+        writer.write(',');
+        writer.write(formatDate(tx.dueDate()));
+        writer.write(',');
+        writer.write(formatDate(tx.effectiveDate()));
+        writer.write(',');
+        writer.write(escape(tx.description()));
+        writer.write(',');
+        writer.write(tx.amount() != null ? tx.amount().toPlainString() : "");
+        writer.write(',');
+        writer.write(tx.effectiveAmount() != null ? tx.effectiveAmount().toPlainString() : "");
+        writer.write(',');
+        writer.write(tx.type() != null ? TransactionType.fromCode(tx.type()).getDescription() : "");
+        writer.write(',');
+        writer.write(tx.status());
+        writer.write(',');
+        writer.write(tx.accountId() != null ? tx.accountId().toString() : "");
+        writer.write(',');
+        writer.write(escape(tx.account()));
+        writer.write(',');
+        writer.write(tx.categoryId() != null ? tx.categoryId().toString() : "");
+        writer.write(',');
+        writer.write(escape(tx.category()));
+        writer.write(',');
+        writer.write(escape(tx.username()));
+        writer.write('\n');
+    }
+
+    private static String formatDate(LocalDate date) {
+        return date != null ? date.format(DATE_FORMATTER) : "";
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
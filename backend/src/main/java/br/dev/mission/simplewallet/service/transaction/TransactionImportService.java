@@ -0,0 +1,238 @@
+package br.dev.mission.simplewallet.service.transaction;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.dev.mission.simplewallet.dto.transaction.TransactionExportFormat;
+import br.dev.mission.simplewallet.dto.transaction.TransactionImportResponse;
+import br.dev.mission.simplewallet.dto.transaction.TransactionRequest;
+import br.dev.mission.simplewallet.mapper.transaction.TransactionMapper;
+import br.dev.mission.simplewallet.model.Account;
+import br.dev.mission.simplewallet.model.Category;
+import br.dev.mission.simplewallet.model.Transaction;
+import br.dev.mission.simplewallet.model.TransactionType;
+import br.dev.mission.simplewallet.repository.account.AccountRepository;
+import br.dev.mission.simplewallet.repository.category.CategoryRepository;
+import br.dev.mission.simplewallet.repository.transaction.TransactionRepository;
+import br.dev.mission.simplewallet.util.CsvReader;
+import br.dev.mission.simplewallet.util.LocalDateConverter;
+
+/**
+ * Importação em massa de transações a partir de CSV (mesmas colunas da
+ * exportação) ou NDJSON (um TransactionRequest por linha). A entrada é lida
+ * de forma incremental e gravada em lotes JDBC; linhas inválidas entram no
+ * relatório de erros sem interromper a importação.
+ */
+@Service
+public class TransactionImportService {
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+    @Autowired
+    private TransactionMapper transactionMapper;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private TransactionProjectionService transactionProjectionService;
+
+    @Transactional
+    public TransactionImportResponse importTransactions(String userId, TransactionExportFormat format,
+            InputStream inputStream) throws IOException {
+        ImportContext context = new ImportContext(userId,
+                accountRepository.findByUserId(userId).stream().map(Account::getId).collect(Collectors.toSet()),
+                categoryRepository.findByUserId(userId).stream().map(Category::getId).collect(Collectors.toSet()));
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        if (format == TransactionExportFormat.CSV) {
+            importCsv(reader, context);
+        } else {
+            importNdjson(reader, context);
+        }
+        context.flush();
+        return new TransactionImportResponse(context.total, context.imported, context.failed, context.errors);
+    }
+
+    private void importCsv(BufferedReader reader, ImportContext context) throws IOException {
+        CsvReader csv = new CsvReader(reader, ',');
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+
+        List<String> fields;
+        while ((fields = csv.next()) != null) {
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            long row = ++context.total;
+            try {
+                CsvRow values = new CsvRow(columns, fields);
+                context.add(row, new TransactionRequest(
+                        LocalDateConverter.convertQueryParam(values.get("dueDate")),
+                        values.get("description"),
+                        decimal(values.get("amount")),
+                        typeCode(values.get("type")),
+                        LocalDateConverter.convertQueryParam(values.get("effectiveDate")),
+                        decimal(values.get("effectiveAmount")),
+                        id(values.get("accountId")),
+                        id(values.get("categoryId"))));
+            } catch (IllegalArgumentException e) {
+                context.reject(row, e.getMessage());
+            }
+        }
+    }
+
+    private void importNdjson(BufferedReader reader, ImportContext context) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            long row = ++context.total;
+            try {
+                context.add(row, objectMapper.readValue(line, TransactionRequest.class));
+            } catch (JsonProcessingException e) {
+                context.reject(row, "JSON inválido: " + e.getOriginalMessage());
+            } catch (IllegalArgumentException e) {
+                context.reject(row, e.getMessage());
+            }
+        }
+    }
+
+    private static BigDecimal decimal(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido: " + value);
+        }
+    }
+
+    private static Long id(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Identificador inválido: " + value);
+        }
+    }
+
+    private static Integer typeCode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String type = value.trim().toUpperCase(Locale.ROOT);
+        for (TransactionType transactionType : TransactionType.values()) {
+            if (transactionType.name().equals(type) || transactionType.getDescription().equals(type)
+                    || transactionType.getCode().toString().equals(type)) {
+                return transactionType.getCode();
+            }
+        }
+        throw new IllegalArgumentException("Tipo inválido: " + value);
+    }
+
+    private record CsvRow(Map<String, Integer> columns, List<String> fields) {
+        String get(String column) {
+            Integer index = columns.get(column);
+            return index != null && index < fields.size() ? fields.get(index) : null;
+        }
+    }
+
+    private class ImportContext {
+        private final String userId;
+        private final Set<Long> accountIds;
+        private final Set<Long> categoryIds;
+        private final List<Transaction> batch = new ArrayList<>(BATCH_SIZE);
+        private final List<TransactionImportResponse.RowError> errors = new ArrayList<>();
+        private long total;
+        private long imported;
+        private long failed;
+
+        ImportContext(String userId, Set<Long> accountIds, Set<Long> categoryIds) {
+            this.userId = userId;
+            this.accountIds = accountIds;
+            this.categoryIds = categoryIds;
+        }
+
+        void add(long row, TransactionRequest request) {
+            String error = validate(request);
+            if (error != null) {
+                reject(row, error);
+                return;
+            }
+            batch.add(transactionMapper.toEntity(request, userId));
+            if (batch.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void reject(long row, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new TransactionImportResponse.RowError(row, message));
+            }
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            transactionRepository.insertAll(batch);
+            transactionProjectionService.createdAll(batch);
+            imported += batch.size();
+            batch.clear();
+        }
+
+        private String validate(TransactionRequest request) {
+            if (request.dueDate() == null) {
+                return "dueDate é obrigatório";
+            }
+            if (request.amount() == null) {
+                return "amount é obrigatório";
+            }
+            if (request.type() == null) {
+                return "type é obrigatório";
+            }
+            TransactionType.fromCode(request.type());
+            if (request.accountId() == null || !accountIds.contains(request.accountId())) {
+                return "Conta não pertence ao usuário logado";
+            }
+            if (request.categoryId() == null || !categoryIds.contains(request.categoryId())) {
+                return "Categoria não pertence ao usuário logado";
+            }
+            return null;
+        }
+    }
+}
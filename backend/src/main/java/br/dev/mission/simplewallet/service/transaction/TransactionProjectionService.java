@@ -0,0 +1,82 @@
+package br.dev.mission.simplewallet.service.transaction;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.dev.mission.simplewallet.model.Transaction;
+import br.dev.mission.simplewallet.service.account.AccountBalanceService;
+import br.dev.mission.simplewallet.service.account.BalanceDelta;
+import br.dev.mission.simplewallet.service.report.MonthlyRollupEntry;
+import br.dev.mission.simplewallet.service.report.MonthlyRollupService;
+import br.dev.mission.simplewallet.service.user.DataVersionService;
+
+/**
+ * Ponto único por onde as escritas de transação atualizam as projeções
+ * derivadas (saldos das contas e totais mensais) e a versão dos dados do
+ * usuário, sempre na mesma transação de banco da escrita.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class TransactionProjectionService {
+    @Autowired
+    private AccountBalanceService accountBalanceService;
+    @Autowired
+    private MonthlyRollupService monthlyRollupService;
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    /** Contribuição de uma transação antes de ser alterada. */
+    public record Snapshot(BalanceDelta balance, MonthlyRollupEntry rollup) {
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Snapshot capture(Transaction transaction) {
+        return new Snapshot(BalanceDelta.of(transaction), MonthlyRollupEntry.of(transaction));
+    }
+
+    public void created(Transaction transaction) {
+        accountBalanceService.apply(transaction);
+        monthlyRollupService.apply(transaction);
+        dataVersionService.bump(transaction.getUserId());
+    }
+
+    public void createdAll(Collection<Transaction> transactions) {
+        accountBalanceService.applyAll(transactions);
+        monthlyRollupService.applyAll(transactions);
+        dataVersionService.bumpAll(userIds(transactions));
+    }
+
+    public void updated(Snapshot before, Transaction after) {
+        accountBalanceService.replace(before.balance(), after);
+        monthlyRollupService.replace(before.rollup(), after);
+        dataVersionService.bump(after.getUserId());
+    }
+
+    public void deleted(Transaction transaction) {
+        accountBalanceService.revert(transaction);
+        monthlyRollupService.revert(transaction);
+        dataVersionService.bump(transaction.getUserId());
+    }
+
+    /** Escritas em lote (UPDATE/DELETE por grupo): os deltas são somados por conta e por mês. */
+    public void updatedAll(Collection<Snapshot> before, Collection<Transaction> after) {
+        accountBalanceService.replaceAll(before.stream().map(Snapshot::balance).toList(), after);
+        monthlyRollupService.replaceAll(before.stream().map(Snapshot::rollup).toList(), after);
+        dataVersionService.bumpAll(userIds(after));
+    }
+
+    public void deletedAll(Collection<Transaction> transactions) {
+        accountBalanceService.revertAll(transactions);
+        monthlyRollupService.revertAll(transactions);
+        dataVersionService.bumpAll(userIds(transactions));
+    }
+
+    private static List<String> userIds(Collection<Transaction> transactions) {
+        return transactions.stream().map(Transaction::getUserId).distinct().toList();
+    }
+}
@@ -1,7 +1,9 @@
 
 package br.dev.mission.simplewallet.service.transaction;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -10,21 +12,35 @@ import java.util.UUID;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.dev.mission.simplewallet.dto.transaction.CompactTransactionPage;
+import br.dev.mission.simplewallet.dto.transaction.CompactTransactionSlice;
+import br.dev.mission.simplewallet.dto.transaction.TransactionCursor;
 import br.dev.mission.simplewallet.dto.transaction.TransactionEffectivationRequest;
+import br.dev.mission.simplewallet.dto.transaction.TransactionFilter;
 import br.dev.mission.simplewallet.dto.transaction.TransactionRequest;
 import br.dev.mission.simplewallet.dto.transaction.TransactionRequestWithInstallment;
 import br.dev.mission.simplewallet.dto.transaction.TransactionResponse;
+import br.dev.mission.simplewallet.dto.transaction.TransactionSlice;
+import br.dev.mission.simplewallet.dto.transaction.TransactionStatusCounts;
 import br.dev.mission.simplewallet.exception.ForbiddenResourceException;
 import br.dev.mission.simplewallet.mapper.transaction.TransactionMapper;
 import br.dev.mission.simplewallet.model.Transaction;
 import br.dev.mission.simplewallet.repository.account.AccountRepository;
 import br.dev.mission.simplewallet.repository.category.CategoryRepository;
+import br.dev.mission.simplewallet.repository.recurrence.RecurrenceExceptionRepository;
 import br.dev.mission.simplewallet.repository.transaction.TransactionRepository;
+import br.dev.mission.simplewallet.repository.transaction.TransactionSpecifications;
 import br.dev.mission.simplewallet.repository.user.UserRepository;
+import br.dev.mission.simplewallet.service.user.FamilyCache;
+import io.micrometer.core.annotation.Timed;
 
 @Service
+@Timed("wallet.transactions")
 public class TransactionService {
     @Autowired
     private TransactionRepository transactionRepository;
@@ -36,37 +52,145 @@ public class TransactionService {
     private CategoryRepository categoryRepository;
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private RecurrenceExceptionRepository recurrenceExceptionRepository;
+    @Autowired
+    private FamilyCache familyCache;
+    @Autowired
+    private TransactionProjectionService transactionProjectionService;
 
+    @Transactional
     public TransactionResponse create(TransactionRequest request, String userId) {
-        if (!accountRepository.findById(request.accountId()).filter(acc -> acc.getUserId().equals(userId))
-                .isPresent()) {
-            throw new ForbiddenResourceException("Conta não pertence ao usuário logado");
-        }
-        if (!categoryRepository.findById(request.categoryId()).filter(cat -> cat.getUserId().equals(userId))
-                .isPresent()) {
-            throw new ForbiddenResourceException("Categoria não pertence ao usuário logado");
-        }
+        return create(request, userId, null);
+    }
+
+    /**
+     * Com groupId, a transação entra no grupo como lançamento de origem
+     * (installmentNumber 0), como o crédito de um empréstimo.
+     */
+    @Transactional
+    public TransactionResponse create(TransactionRequest request, String userId, UUID groupId) {
+        checkOwnership(request.accountId(), request.categoryId(), userId);
         Transaction transaction = transactionMapper.toEntity(request, userId);
-        return transactionMapper.toResponse(transactionRepository.save(transaction));
+        if (groupId != null) {
+            transaction.setGroupId(groupId);
+            transaction.setInstallmentNumber(0);
+        }
+        transaction = transactionRepository.save(transaction);
+        transactionProjectionService.created(transaction);
+        return transactionMapper.toResponse(transaction);
     }
 
     public Page<TransactionResponse> findByUserId(String userId, Pageable pageable) {
-        return transactionRepository.findByUserId(userId, pageable).map(transactionMapper::toResponse);
+        return transactionMapper.toResponsePage(transactionRepository.findByUserId(userId, pageable));
     }
 
     public Page<TransactionResponse> findByUserIdWithChildren(String userId, Pageable pageable) {
-        // Criar lista com o userId atual
-        List<String> userIds = new java.util.ArrayList<>();
-        userIds.add(userId);
+        return transactionMapper.toResponsePage(transactionRepository.findByUserIdIn(familyCache.familyUserIds(userId), pageable));
+    }
+
+    public Page<TransactionResponse> findFiltered(String userId, boolean isParent, TransactionFilter filter,
+            Pageable pageable) {
+        return transactionMapper.toResponsePage(filtered(userId, isParent, filter, pageable));
+    }
 
-        // Buscar todos os filhos (usuários que têm este usuário como parent) e
-        // adicionar à lista
-        List<String> childrenIds = userRepository.findByParentId(UUID.fromString(userId)).stream()
-                .map(user -> user.getId().toString()).toList();
-        userIds.addAll(childrenIds);
+    /**
+     * Mesma página de findFiltered, com os nomes enviados uma vez em
+     * references em vez de repetidos em cada linha.
+     */
+    public CompactTransactionPage findFilteredCompact(String userId, boolean isParent, TransactionFilter filter,
+            Pageable pageable) {
+        return transactionMapper.toCompactPage(filtered(userId, isParent, filter, pageable));
+    }
+
+    private Page<Transaction> filtered(String userId, boolean isParent, TransactionFilter filter,
+            Pageable pageable) {
+        List<String> userIds = scopeUserIds(userId, isParent, filter.username());
+        if (userIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        return transactionRepository.findAll(TransactionSpecifications.forUsers(userIds, filter), pageable);
+    }
 
-        // Buscar todas as transações paginadas
-        return transactionRepository.findByUserIdIn(userIds, pageable).map(transactionMapper::toResponse);
+    /**
+     * Listagem por cursor: busca size + 1 linhas a partir do (dueDate, id) do
+     * cursor para saber se há próxima página, sem COUNT nem OFFSET. As
+     * transações sem vencimento vêm no fim, numa segunda busca por id.
+     */
+    @Transactional(readOnly = true)
+    public TransactionSlice findAfter(String userId, boolean isParent, TransactionFilter filter,
+            TransactionCursor cursor, Sort.Direction direction, int size) {
+        List<Transaction> rows = rowsAfter(userId, isParent, filter, cursor, direction, size);
+        boolean hasNext = rows.size() > size;
+        List<Transaction> content = hasNext ? rows.subList(0, size) : rows;
+        return new TransactionSlice(transactionMapper.toResponseList(content), size, hasNext,
+                nextCursor(content, hasNext));
+    }
+
+    @Transactional(readOnly = true)
+    public CompactTransactionSlice findAfterCompact(String userId, boolean isParent, TransactionFilter filter,
+            TransactionCursor cursor, Sort.Direction direction, int size) {
+        List<Transaction> rows = rowsAfter(userId, isParent, filter, cursor, direction, size);
+        boolean hasNext = rows.size() > size;
+        List<Transaction> content = hasNext ? rows.subList(0, size) : rows;
+        return new CompactTransactionSlice(transactionMapper.toCompactList(content),
+                transactionMapper.references(content), size, hasNext, nextCursor(content, hasNext));
+    }
+
+    private List<Transaction> rowsAfter(String userId, boolean isParent, TransactionFilter filter,
+            TransactionCursor cursor, Sort.Direction direction, int size) {
+        List<String> userIds = scopeUserIds(userId, isParent, filter.username());
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        Specification<Transaction> spec = TransactionSpecifications.forUsers(userIds, filter);
+        List<Transaction> rows = new ArrayList<>(size + 1);
+        if (cursor == null || cursor.dueDate() != null) {
+            rows.addAll(transactionRepository.findBy(spec.and(TransactionSpecifications.dueDateAfter(cursor, direction)),
+                    query -> query.sortBy(TransactionSpecifications.keysetSort(direction)).limit(size + 1).all()));
+        }
+        if (rows.size() <= size) {
+            int remaining = size + 1 - rows.size();
+            rows.addAll(transactionRepository.findBy(
+                    spec.and(TransactionSpecifications.withoutDueDateAfter(cursor, direction)),
+                    query -> query.sortBy(Sort.by(direction, "id")).limit(remaining).all()));
+        }
+        return rows;
+    }
+
+    private static String nextCursor(List<Transaction> content, boolean hasNext) {
+        return hasNext ? TransactionCursor.of(content.get(content.size() - 1)).encode() : null;
+    }
+
+    /**
+     * Quantidade e soma das transações pendentes, vencidas e liquidadas do
+     * usuário ou da família, numa única consulta agregada.
+     */
+    @Transactional(readOnly = true)
+    public TransactionStatusCounts statusCounts(String userId, boolean isParent, TransactionFilter filter) {
+        List<String> userIds = scopeUserIds(userId, isParent, filter.username());
+        if (userIds.isEmpty()) {
+            TransactionStatusCounts.StatusTotal none = new TransactionStatusCounts.StatusTotal(0, BigDecimal.ZERO);
+            return new TransactionStatusCounts(none, none, none);
+        }
+        return transactionRepository.countByStatus(userIds, filter, LocalDate.now());
+    }
+
+    /**
+     * Usuários cujas transações o usuário logado pode consultar: ele mesmo ou a
+     * família, opcionalmente restrito a um username. Lista vazia quando o
+     * username não pertence ao escopo.
+     */
+    public List<String> scopeUserIds(String userId, boolean isParent, String username) {
+        List<String> userIds = isParent ? familyCache.familyUserIds(userId) : List.of(userId);
+        if (username == null || username.isBlank()) {
+            return userIds;
+        }
+        return userRepository.findByUsername(username.trim())
+                .map(user -> user.getId().toString())
+                .filter(userIds::contains)
+                .map(List::of)
+                .orElse(List.of());
     }
 
     public Optional<TransactionResponse> findById(Long id, String userId) {
@@ -74,39 +198,49 @@ public class TransactionService {
                 .map(transactionMapper::toResponse);
     }
 
+    @Transactional
     public Optional<TransactionResponse> update(Long id, TransactionRequest request, String userId) {
-        if (!accountRepository.findById(request.accountId()).filter(acc -> acc.getUserId().equals(userId))
-                .isPresent()) {
-            throw new ForbiddenResourceException("Conta não pertence ao usuário logado");
-        }
-        if (!categoryRepository.findById(request.categoryId()).filter(cat -> cat.getUserId().equals(userId))
-                .isPresent()) {
-            throw new ForbiddenResourceException("Categoria não pertence ao usuário logado");
-        }
+        checkOwnership(request.accountId(), request.categoryId(), userId);
         return transactionRepository.findById(id).filter(tx -> tx.getUserId().equals(userId)).map(tx -> {
+            TransactionProjectionService.Snapshot before = transactionProjectionService.capture(tx);
             transactionMapper.updateEntity(tx, request);
-            return transactionMapper.toResponse(transactionRepository.save(tx));
+            Transaction saved = transactionRepository.save(tx);
+            transactionProjectionService.updated(before, saved);
+            return transactionMapper.toResponse(saved);
         });
     }
 
+    @Transactional
     public Optional<TransactionResponse> effective(Long id, TransactionEffectivationRequest request, String userId) {
         return transactionRepository.findById(id).filter(tx -> tx.getUserId().equals(userId)).map(tx -> {
+            TransactionProjectionService.Snapshot before = transactionProjectionService.capture(tx);
             tx.setEffectiveDate(request.effectiveDate());
             tx.setEffectiveAmount(request.effectiveAmount());
-            return transactionMapper.toResponse(transactionRepository.save(tx));
+            Transaction saved = transactionRepository.save(tx);
+            transactionProjectionService.updated(before, saved);
+            return transactionMapper.toResponse(saved);
         });
     }
 
+    @Transactional
     public boolean delete(Long id, String userId) {
         return transactionRepository.findById(id).filter(tx -> tx.getUserId().equals(userId)).map(tx -> {
             transactionRepository.delete(tx);
+            transactionProjectionService.deleted(tx);
+            // Ocorrência materializada: sem a exceção a ocorrência virtual da mesma data voltaria na expansão
+            if (tx.getRecurrenceId() != null) {
+                recurrenceExceptionRepository.exclude(tx.getRecurrenceId(), tx.getRecurrenceDate());
+            }
             return true;
         }).orElse(false);
     }
 
+    @Transactional
     public List<TransactionResponse> installments(TransactionRequest request, Integer qtde, String userId,
-            Long creditId) {
-        List<TransactionResponse> installments = new ArrayList<>();
+            UUID groupId) {
+        // As parcelas de um empréstimo usam conta e categoria próprias (accountIdLoan/categoryIdLoan)
+        checkOwnership(request.accountId(), request.categoryId(), userId);
+        List<Transaction> installments = new ArrayList<>(qtde);
         LocalDate dueDateFirstInstallment = request.dueDate();
 
         for (int i = 0; i < qtde; i++) {
@@ -114,29 +248,26 @@ public class TransactionService {
             LocalDate dueDateInstallment = dueDateFirstInstallment.plusMonths(i);
 
             TransactionRequest installmentRequest = new TransactionRequest(dueDateInstallment,
-                    request.description() + " ID: " + creditId + " - " + (i + 1) + " de " + qtde, request.amount(),
+                    request.description() + " - " + (i + 1) + " de " + qtde, request.amount(),
                     request.type(), request.effectiveDate(), request.effectiveAmount(), request.accountId(),
                     request.categoryId());
 
-            installments.add(transactionMapper
-                    .toResponse(transactionRepository.save(transactionMapper.toEntity(installmentRequest, userId))));
+            installments.add(installment(installmentRequest, userId, groupId, i + 1));
         }
 
-        return installments;
+        // Um único saveAll: inserts em lote (hibernate.jdbc.batch_size) e IDs do pool da sequence
+        List<Transaction> saved = transactionRepository.saveAll(installments);
+        transactionProjectionService.createdAll(saved);
+        return transactionMapper.toResponseList(saved);
     }
 
+    @Transactional
     public List<TransactionResponse> createBatch(TransactionRequestWithInstallment request, String userId) {
-        if (!accountRepository.findById(request.accountId()).filter(acc -> acc.getUserId().equals(userId))
-                .isPresent()) {
-            throw new ForbiddenResourceException("Conta não pertence ao usuário logado");
-        }
-        if (!categoryRepository.findById(request.categoryId()).filter(cat -> cat.getUserId().equals(userId))
-                .isPresent()) {
-            throw new ForbiddenResourceException("Categoria não pertence ao usuário logado");
-        }
+        checkOwnership(request.accountId(), request.categoryId(), userId);
 
-        List<TransactionResponse> installments = new ArrayList<>();
+        List<Transaction> installments = new ArrayList<>(request.qtdeInstallments());
         LocalDate dueDateFirstInstallment = request.dueDate();
+        UUID groupId = UUID.randomUUID();
 
         for (int i = 0; i < request.qtdeInstallments(); i++) {
 
@@ -147,11 +278,113 @@ public class TransactionService {
                     request.type(), request.effectiveDate(), request.effectiveAmount(), request.accountId(),
                     request.categoryId());
 
-            installments.add(transactionMapper
-                    .toResponse(transactionRepository.save(transactionMapper.toEntity(installmentRequest, userId))));
+            installments.add(installment(installmentRequest, userId, groupId, i + 1));
         }
 
-        return installments;
+        List<Transaction> saved = transactionRepository.saveAll(installments);
+        transactionProjectionService.createdAll(saved);
+        return transactionMapper.toResponseList(saved);
+    }
+
+    /**
+     * Plano completo do grupo (origem e parcelas), em ordem de parcela. Vazio
+     * quando o grupo não existe ou não pertence ao usuário.
+     */
+    public List<TransactionResponse> findGroup(UUID groupId, String userId) {
+        return transactionMapper
+                .toResponseList(transactionRepository.findByGroupIdAndUserIdOrderByInstallmentNumberAsc(groupId, userId));
+    }
+
+    /**
+     * Liquida as parcelas em aberto do grupo com um único UPDATE. As parcelas
+     * são lidas antes (uma consulta) só para ajustar saldos e totais mensais.
+     */
+    @Transactional
+    public List<TransactionResponse> settleGroup(UUID groupId, LocalDate effectiveDate, String userId) {
+        LocalDate date = effectiveDate != null ? effectiveDate : LocalDate.now();
+        List<Transaction> group = transactionRepository.findByGroupIdAndUserIdOrderByInstallmentNumberAsc(groupId,
+                userId);
+        List<Transaction> open = openInstallments(group);
+        if (open.isEmpty()) {
+            return transactionMapper.toResponseList(group);
+        }
+        List<TransactionProjectionService.Snapshot> before = open.stream()
+                .map(transactionProjectionService::capture).toList();
+        transactionRepository.settleGroup(groupId, userId, date, LocalDateTime.now());
+
+        // O UPDATE limpou o contexto: as entidades lidas só espelham o novo estado em memória
+        for (Transaction tx : open) {
+            tx.setEffectiveDate(date);
+            tx.setEffectiveAmount(tx.getAmount());
+        }
+        transactionProjectionService.updatedAll(before, open);
+        return transactionMapper.toResponseList(group);
+    }
+
+    /**
+     * Reagenda as parcelas em aberto com um único UPDATE: a primeira passa a
+     * vencer em dueDate e as demais mês a mês a partir dela.
+     */
+    @Transactional
+    public List<TransactionResponse> rescheduleGroup(UUID groupId, LocalDate dueDate, String userId) {
+        if (dueDate == null) {
+            throw new IllegalArgumentException("dueDate é obrigatório");
+        }
+        List<Transaction> group = transactionRepository.findByGroupIdAndUserIdOrderByInstallmentNumberAsc(groupId,
+                userId);
+        List<Transaction> open = openInstallments(group);
+        if (open.isEmpty()) {
+            return transactionMapper.toResponseList(group);
+        }
+        int fromNumber = open.get(0).getInstallmentNumber();
+        List<TransactionProjectionService.Snapshot> before = open.stream()
+                .map(transactionProjectionService::capture).toList();
+        transactionRepository.rescheduleGroup(groupId, userId, dueDate, fromNumber, LocalDateTime.now());
+
+        for (Transaction tx : open) {
+            tx.setDueDate(dueDate.plusMonths(tx.getInstallmentNumber() - fromNumber));
+        }
+        transactionProjectionService.updatedAll(before, open);
+        return transactionMapper.toResponseList(group);
+    }
+
+    /**
+     * Remove o grupo inteiro, inclusive o lançamento de origem, com um único
+     * DELETE.
+     */
+    @Transactional
+    public boolean deleteGroup(UUID groupId, String userId) {
+        List<Transaction> group = transactionRepository.findByGroupIdAndUserIdOrderByInstallmentNumberAsc(groupId,
+                userId);
+        if (group.isEmpty()) {
+            return false;
+        }
+        transactionRepository.deleteGroup(groupId, userId);
+        transactionProjectionService.deletedAll(group);
+        return true;
+    }
+
+    private void checkOwnership(Long accountId, Long categoryId, String userId) {
+        if (!accountRepository.findById(accountId).filter(acc -> acc.getUserId().equals(userId)).isPresent()) {
+            throw new ForbiddenResourceException("Conta não pertence ao usuário logado");
+        }
+        if (!categoryRepository.findById(categoryId).filter(cat -> cat.getUserId().equals(userId)).isPresent()) {
+            throw new ForbiddenResourceException("Categoria não pertence ao usuário logado");
+        }
+    }
+
+    private Transaction installment(TransactionRequest request, String userId, UUID groupId, int number) {
+        Transaction transaction = transactionMapper.toEntity(request, userId);
+        transaction.setGroupId(groupId);
+        transaction.setInstallmentNumber(number);
+        return transaction;
+    }
 
+    // Mesmo critério dos UPDATEs por grupo: parcelas (número > 0) ainda não efetivadas
+    private static List<Transaction> openInstallments(List<Transaction> group) {
+        return group.stream()
+                .filter(tx -> tx.getInstallmentNumber() != null && tx.getInstallmentNumber() > 0
+                        && tx.getEffectiveDate() == null)
+                .toList();
     }
 }
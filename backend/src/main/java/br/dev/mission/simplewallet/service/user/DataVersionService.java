@@ -0,0 +1,89 @@
+package br.dev.mission.simplewallet.service.user;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.dev.mission.simplewallet.model.DataVersion;
+import br.dev.mission.simplewallet.repository.user.DataVersionRepository;
+
+/**
+ * Versão dos dados por usuário, para GET condicional nas listagens. Toda
+ * escrita em contas, categorias e transações incrementa a versão do dono na
+ * mesma transação de banco; a leitura da versão vem antes das consultas de
+ * dados, então uma resposta nunca sai com uma versão mais nova que os dados.
+ * Em modo família, o ETag combina as versões do usuário e dos filhos.
+ */
+@Service
+public class DataVersionService {
+    private static final int ETAG_BYTES = 8;
+
+    private final DataVersionRepository dataVersionRepository;
+    private final FamilyCache familyCache;
+
+    public DataVersionService(DataVersionRepository dataVersionRepository, FamilyCache familyCache) {
+        this.dataVersionRepository = dataVersionRepository;
+        this.familyCache = familyCache;
+    }
+
+    @Transactional
+    public void register(String userId) {
+        dataVersionRepository.save(new DataVersion(userId, 0));
+    }
+
+    @Transactional
+    public void bump(String userId) {
+        bumpAll(List.of(userId));
+    }
+
+    /**
+     * Um UPDATE por usuário, em ordem de id, para que escritas concorrentes
+     * travem as linhas na mesma sequência. Usuário sem linha (criado fora da
+     * aplicação) cai no upsert, que cria a linha mesmo com outra escrita
+     * criando ao mesmo tempo.
+     */
+    @Transactional
+    public void bumpAll(Collection<String> userIds) {
+        userIds.stream().filter(Objects::nonNull).distinct().sorted().forEach(userId -> {
+            if (dataVersionRepository.increment(List.of(userId)) == 0) {
+                dataVersionRepository.upsertIncrement(userId);
+            }
+        });
+    }
+
+    /**
+     * ETag fraco das listagens do usuário (ou da família). Entra também a data
+     * corrente, já que a situação "vencida" das transações muda na virada do
+     * dia sem nenhuma escrita.
+     */
+    @Transactional(readOnly = true)
+    public String etag(String userId, boolean isParent) {
+        List<String> userIds = isParent ? familyCache.familyUserIds(userId) : List.of(userId);
+        Map<String, Long> versions = dataVersionRepository.findByUserIdIn(userIds).stream()
+                .collect(Collectors.toMap(DataVersion::getUserId, DataVersion::getVersion));
+
+        StringBuilder key = new StringBuilder(LocalDate.now().toString());
+        for (String id : userIds) {
+            key.append('|').append(id).append('=').append(versions.getOrDefault(id, 0L));
+        }
+        return "W/\"" + HexFormat.of().formatHex(sha256(key.toString()), 0, ETAG_BYTES) + "\"";
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package br.dev.mission.simplewallet.service.user;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.dev.mission.simplewallet.repository.user.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache limitado dos filhos de cada usuário (parent UUID -> IDs dos filhos).
+ * As entradas são invalidadas pelo {@link UserService#updateParent} sempre que
+ * um vínculo muda; o TTL só cobre alterações feitas fora da aplicação.
+ */
+@Component
+public class FamilyCache implements MeterBinder {
+    private final UserRepository userRepository;
+    private final Cache<UUID, List<String>> cache;
+    /** Incrementada a cada invalidação, para descartar cargas concorrentes. */
+    private final AtomicLong generation = new AtomicLong();
+
+    public FamilyCache(UserRepository userRepository,
+            @Value("${family.cache.max-size:10000}") long maxSize,
+            @Value("${family.cache.ttl:10m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public List<String> childIds(UUID parentId) {
+        List<String> cached = cache.getIfPresent(parentId);
+        if (cached != null) {
+            return cached;
+        }
+        // Consulta fora de cache.get(key, loader): o loader roda dentro de um
+        // bloco synchronized do ConcurrentHashMap e prenderia a thread virtual
+        // ao carrier durante o JDBC
+        long generationAtLoad = generation.get();
+        List<String> childIds = userRepository.findByParentId(parentId).stream()
+                .map(user -> user.getId().toString())
+                .toList();
+        cache.put(parentId, childIds);
+        // Uma invalidação durante a consulta pode ter chegado antes do put e a
+        // lista lida ser a anterior à mudança: ela sai do cache. Se chegar
+        // depois desta checagem, o próprio invalidate remove o put.
+        if (generation.get() != generationAtLoad) {
+            cache.asMap().remove(parentId, childIds);
+        }
+        return childIds;
+    }
+
+    /**
+     * O próprio usuário seguido dos filhos, na ordem usada pelas consultas em
+     * modo família.
+     */
+    public List<String> familyUserIds(String userId) {
+        List<String> childIds = childIds(UUID.fromString(userId));
+        List<String> userIds = new ArrayList<>(childIds.size() + 1);
+        userIds.add(userId);
+        userIds.addAll(childIds);
+        return List.copyOf(userIds);
+    }
+
+    public void invalidate(UUID parentId) {
+        if (parentId != null) {
+            generation.incrementAndGet();
+            cache.invalidate(parentId);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "family");
+    }
+}
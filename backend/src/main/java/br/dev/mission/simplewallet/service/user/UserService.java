@@ -5,6 +5,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,9 +14,12 @@ import br.dev.mission.simplewallet.dto.user.UserRequestUpdate;
 import br.dev.mission.simplewallet.dto.user.UserRequestUpdateParent;
 import br.dev.mission.simplewallet.dto.user.UserRequestUpdatePassword;
 import br.dev.mission.simplewallet.dto.user.UserResponse;
+import br.dev.mission.simplewallet.exception.ServiceOverloadedException;
 import br.dev.mission.simplewallet.mapper.user.UserMapper;
 import br.dev.mission.simplewallet.model.User;
 import br.dev.mission.simplewallet.repository.user.UserRepository;
+import br.dev.mission.simplewallet.service.auth.RefreshTokenService;
+import br.dev.mission.simplewallet.service.auth.TokenRevocationService;
 
 @Service
 public class UserService {
@@ -26,10 +30,26 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private FamilyCache familyCache;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
     @Transactional
     public UserResponse save(UserRequestCreate newUser) {
-        User savedUser = userMapper.toEntity(newUser);
-        return userMapper.toResponse(userRepository.save(savedUser));
+        User savedUser = userRepository.save(userMapper.toEntity(newUser));
+        dataVersionService.register(savedUser.getId().toString());
+        return userMapper.toResponse(savedUser);
     }
 
     @Transactional
@@ -40,19 +60,48 @@ public class UserService {
         savedUser.setEmail(updateUser.email());
         savedUser.setNome(updateUser.name());
 
-        return userMapper.toResponse(userRepository.save(savedUser));
+        UserResponse response = userMapper.toResponse(userRepository.save(savedUser));
+        // O username aparece nas listagens de contas, categorias e transações
+        dataVersionService.bump(updateUser.id());
+        return response;
     }
 
+    /**
+     * A senha nova e as revogações das sessões abertas com a antiga são
+     * gravadas na mesma transação; o filtro de revogação em memória só é
+     * atualizado depois do commit. O hash é feito aqui e não no listener, para
+     * que um {@link ServiceOverloadedException} não chegue embrulhado no commit.
+     */
+    @Transactional
     public UserResponse updatePassword(UserRequestUpdatePassword updateUser) {
         User savedUser = userRepository.findById(UUID.fromString(updateUser.id()))
                 .orElseThrow(() -> new IllegalArgumentException(""));
-        savedUser.setPassword(updateUser.password()); // Listener faz o hash
-        return userMapper.toResponse(userRepository.save(savedUser));
+        savedUser.setPassword(passwordEncoder.encode(updateUser.password()));
+        savedUser = userRepository.saveAndFlush(savedUser);
+        refreshTokenService.revokeAll(savedUser.getId());
+        tokenRevocationService.revokeUser(savedUser.getId());
+        return userMapper.toResponse(savedUser);
+    }
+
+    /**
+     * Regrava o hash com o custo atual do BCrypt. Chamado no login, quando a
+     * senha em texto claro está disponível e o hash salvo usa um custo antigo.
+     * O hash é feito aqui, antes de abrir a transação, e não no listener: sem
+     * capacidade no encoder, o {@link ServiceOverloadedException} sai desta
+     * chamada em vez de chegar embrulhado no commit.
+     */
+    public void rehashPassword(UUID id, String rawPassword) {
+        String hash = passwordEncoder.encode(rawPassword);
+        userRepository.findById(id).ifPresent(user -> {
+            user.setPassword(hash);
+            userRepository.save(user);
+        });
     }
 
     public UserResponse updateParent(UserRequestUpdateParent updateUser) {
         User savedUser = userRepository.findById(UUID.fromString(updateUser.id()))
                 .orElseThrow(() -> new IllegalArgumentException(""));
+        UUID previousParentId = savedUser.getParentId();
 
         if (updateUser.parentId() != null) {
             if (savedUser.getId().equals(updateUser.parentId())) {
@@ -62,7 +111,14 @@ public class UserService {
         } else {
             savedUser.setParentId(null);
         }
-        return userMapper.toResponse(userRepository.save(savedUser));
+        UserResponse response = userMapper.toResponse(userRepository.save(savedUser));
+
+        // A família muda para o parent antigo e para o novo
+        familyCache.invalidate(previousParentId);
+        familyCache.invalidate(savedUser.getParentId());
+        // Depois do save já gravado: versão nova nunca aponta para dados antigos
+        dataVersionService.bump(savedUser.getId().toString());
+        return response;
     }
 
     @Transactional(readOnly = true)
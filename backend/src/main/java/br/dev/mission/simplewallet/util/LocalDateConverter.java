@@ -2,6 +2,7 @@ package br.dev.mission.simplewallet.util;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 
 import org.springframework.stereotype.Component;
 
@@ -14,4 +15,19 @@ public class LocalDateConverter {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DATE_FORMAT);
         return LocalDate.parse(date, formatter);
     }
+
+    /**
+     * Aceita tanto dd/MM/yyyy quanto o formato ISO (yyyy-MM-dd) enviado pelos
+     * inputs de data do frontend. Retorna null para valores vazios.
+     */
+    public static LocalDate convertQueryParam(String date) {
+        if (date == null || date.isBlank()) {
+            return null;
+        }
+        try {
+            return date.contains("/") ? convert(date.trim()) : LocalDate.parse(date.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Data inválida: " + date, e);
+        }
+    }
 }
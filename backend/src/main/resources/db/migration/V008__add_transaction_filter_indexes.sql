@@ -0,0 +1,27 @@
+-- Simple Wallet Database - Composite Indexes for Transaction Filters
+-- V008__add_transaction_filter_indexes.sql
+
+-- A entidade Transaction grava a categoria em "category" e a efetivação em
+-- effective_date/effective_amount, colunas que o V004 não cria (ele tem
+-- category_id e transaction_date). Elas são criadas aqui, antes dos índices
+-- e dos scripts seguintes que dependem delas; a categoria já gravada em
+-- category_id é copiada.
+ALTER TABLE tb_transactions ADD COLUMN IF NOT EXISTS category BIGINT;
+ALTER TABLE tb_transactions ADD COLUMN IF NOT EXISTS effective_date DATE;
+ALTER TABLE tb_transactions ADD COLUMN IF NOT EXISTS effective_amount DECIMAL(15,2);
+
+UPDATE tb_transactions SET category = category_id
+WHERE category IS NULL AND category_id IS NOT NULL;
+
+-- Os filtros de GET /api/transactions sempre restringem por user_id e
+-- normalmente por intervalo de datas, conta ou categoria
+CREATE INDEX IF NOT EXISTS idx_transactions_user_due_date ON tb_transactions(user_id, due_date, id);
+CREATE INDEX IF NOT EXISTS idx_transactions_user_account_due_date ON tb_transactions(user_id, account_id, due_date);
+CREATE INDEX IF NOT EXISTS idx_transactions_user_category_due_date ON tb_transactions(user_id, category, due_date);
+CREATE INDEX IF NOT EXISTS idx_transactions_user_effective_date ON tb_transactions(user_id, effective_date);
+
+-- Log initialization
+DO $$
+BEGIN
+    RAISE NOTICE 'Transaction filter indexes created successfully';
+END $$;
@@ -0,0 +1,15 @@
+-- Simple Wallet Database - Pooled Sequence for Transaction IDs
+-- V009__create_transactions_sequence.sql
+
+-- Transaction usa uma sequence com allocationSize = 50 no lugar de IDENTITY,
+-- permitindo inserts em lote pelo Hibernate. O INCREMENT deve ser igual ao allocationSize.
+CREATE SEQUENCE IF NOT EXISTS tb_transactions_seq INCREMENT BY 50;
+
+-- Posiciona a sequence acima dos IDs já existentes
+SELECT setval('tb_transactions_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM tb_transactions));
+
+-- Log initialization
+DO $$
+BEGIN
+    RAISE NOTICE 'Sequence tb_transactions_seq created successfully';
+END $$;
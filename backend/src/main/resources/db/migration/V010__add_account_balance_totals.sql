@@ -0,0 +1,33 @@
+-- Simple Wallet Database - Incremental Account Balance Totals
+-- V010__add_account_balance_totals.sql
+
+-- balance continua sendo o saldo inicial informado pelo usuário. Os somatórios
+-- abaixo são atualizados a cada mutação de transação:
+--   saldo atual    = balance + effective_total
+--   saldo previsto = balance + effective_total + pending_total
+ALTER TABLE tb_accounts ADD COLUMN IF NOT EXISTS effective_total DECIMAL(15,2) NOT NULL DEFAULT 0.00;
+ALTER TABLE tb_accounts ADD COLUMN IF NOT EXISTS pending_total DECIMAL(15,2) NOT NULL DEFAULT 0.00;
+
+-- Carga inicial a partir do histórico. tb_transactions.type é o enum
+-- transaction_type do V004; effective_date/effective_amount vêm do V008.
+UPDATE tb_accounts a SET
+    effective_total = t.effective_total,
+    pending_total = t.pending_total
+FROM (
+    SELECT account_id,
+        SUM(CASE WHEN effective_date IS NOT NULL
+            THEN CASE WHEN type = 'INCOME' THEN 1 ELSE -1 END * COALESCE(effective_amount, amount)
+            ELSE 0 END) AS effective_total,
+        SUM(CASE WHEN effective_date IS NULL
+            THEN CASE WHEN type = 'INCOME' THEN 1 ELSE -1 END * amount
+            ELSE 0 END) AS pending_total
+    FROM tb_transactions
+    GROUP BY account_id
+) t
+WHERE a.id = t.account_id;
+
+-- Log initialization
+DO $$
+BEGIN
+    RAISE NOTICE 'Account balance totals added successfully';
+END $$;
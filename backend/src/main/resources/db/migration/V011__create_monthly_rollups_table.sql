@@ -0,0 +1,43 @@
+-- Simple Wallet Database - Monthly Rollups
+-- V011__create_monthly_rollups_table.sql
+
+-- Totais por (usuário, mês de vencimento, conta, categoria, tipo), mantidos a
+-- cada escrita em tb_transactions. Pode ser refeita com --rebuild-rollups ou
+-- POST /api/reports/rollups/rebuild.
+CREATE TABLE IF NOT EXISTS tb_monthly_rollups (
+    id BIGSERIAL PRIMARY KEY,
+    user_id VARCHAR(255) NOT NULL,
+    year_month VARCHAR(7) NOT NULL,
+    account_id BIGINT NOT NULL,
+    category BIGINT NOT NULL,
+    type SMALLINT NOT NULL,
+    tx_count BIGINT NOT NULL DEFAULT 0,
+    income DECIMAL(15,2) NOT NULL DEFAULT 0.00,
+    expense DECIMAL(15,2) NOT NULL DEFAULT 0.00,
+    paid DECIMAL(15,2) NOT NULL DEFAULT 0.00,
+    pending DECIMAL(15,2) NOT NULL DEFAULT 0.00,
+
+    CONSTRAINT uk_monthly_rollups_key UNIQUE (user_id, year_month, account_id, category, type)
+);
+
+-- Carga inicial a partir do histórico. tb_transactions.type é o enum
+-- transaction_type do V004 e vira o ordinal da entidade (0 = receita,
+-- 1 = despesa); category e effective_date/effective_amount vêm do V008.
+-- Linhas antigas sem conta ou categoria não cabem na chave e ficam de fora.
+INSERT INTO tb_monthly_rollups (user_id, year_month, account_id, category, type, tx_count, income, expense, paid, pending)
+SELECT user_id, TO_CHAR(due_date, 'YYYY-MM'), account_id, category,
+    CASE WHEN type = 'INCOME' THEN 0 ELSE 1 END, COUNT(*),
+    SUM(CASE WHEN type = 'INCOME' THEN amount ELSE 0 END),
+    SUM(CASE WHEN type = 'EXPENSE' THEN amount ELSE 0 END),
+    SUM(CASE WHEN effective_date IS NOT NULL THEN COALESCE(effective_amount, amount) ELSE 0 END),
+    SUM(CASE WHEN effective_date IS NULL THEN amount ELSE 0 END)
+FROM tb_transactions
+WHERE due_date IS NOT NULL AND account_id IS NOT NULL AND category IS NOT NULL
+GROUP BY user_id, TO_CHAR(due_date, 'YYYY-MM'), account_id, category, type
+ON CONFLICT DO NOTHING;
+
+-- Log initialization
+DO $$
+BEGIN
+    RAISE NOTICE 'Table tb_monthly_rollups created successfully';
+END $$;
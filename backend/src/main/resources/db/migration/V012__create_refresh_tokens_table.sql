@@ -0,0 +1,28 @@
+-- Simple Wallet Database - Refresh Tokens
+-- V012__create_refresh_tokens_table.sql
+
+-- Refresh tokens opacos, guardados apenas como hash SHA-256. Cada login abre
+-- uma sessão (session_id); a cada uso o token é marcado em used_at e trocado
+-- por outro da mesma sessão. Reapresentar um token já usado revoga a sessão.
+CREATE TABLE IF NOT EXISTS tb_refresh_tokens (
+    id BIGSERIAL PRIMARY KEY,
+    token_hash VARCHAR(64) NOT NULL,
+    user_id UUID NOT NULL,
+    session_id UUID NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMPTZ NOT NULL,
+    used_at TIMESTAMPTZ,
+
+    CONSTRAINT uk_refresh_tokens_hash UNIQUE (token_hash),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES tb_users(id) ON DELETE CASCADE
+);
+
+-- Revogação da sessão inteira e limpeza periódica dos expirados
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_session_id ON tb_refresh_tokens(session_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at ON tb_refresh_tokens(expires_at);
+
+-- Log initialization
+DO $$
+BEGIN
+    RAISE NOTICE 'Table tb_refresh_tokens created successfully';
+END $$;
@@ -0,0 +1,25 @@
+-- Simple Wallet Database - Token Revocations
+-- V013__create_token_revocations_table.sql
+
+-- Revogação de access tokens: por jti (logout) ou por usuário, invalidando
+-- os tokens emitidos antes de revoked_at (troca de senha). expires_at é o
+-- momento a partir do qual a linha não revoga mais nada e pode ser apagada.
+-- A aplicação carrega a tabela inteira em memória na subida.
+CREATE TABLE IF NOT EXISTS tb_token_revocations (
+    id BIGSERIAL PRIMARY KEY,
+    jti VARCHAR(36),
+    user_id UUID,
+    revoked_at TIMESTAMPTZ NOT NULL,
+    expires_at TIMESTAMPTZ NOT NULL,
+
+    CONSTRAINT ck_token_revocations_target CHECK (jti IS NOT NULL OR user_id IS NOT NULL)
+);
+
+-- Carga das revogações vigentes e limpeza periódica
+CREATE INDEX IF NOT EXISTS idx_token_revocations_expires_at ON tb_token_revocations(expires_at);
+
+-- Log initialization
+DO $$
+BEGIN
+    RAISE NOTICE 'Table tb_token_revocations created successfully';
+END $$;
@@ -0,0 +1,18 @@
+-- Simple Wallet Database - Partial Indexes for Transaction Status
+-- V014__add_transaction_status_indexes.sql
+
+-- A situação (pendente, vencida, liquidada) é derivada de effective_date
+-- (criada no V008) e due_date na consulta, já que "vencida" depende da data
+-- corrente. As transações em aberto são a minoria das linhas e as mais
+-- consultadas, então recebem um índice parcial próprio para o filtro status
+-- da listagem; o valor vai no índice para que contar e somar as pendentes ou
+-- vencidas não precise ler a tabela.
+CREATE INDEX IF NOT EXISTS idx_transactions_user_unsettled_due_date
+    ON tb_transactions(user_id, due_date) INCLUDE (amount)
+    WHERE effective_date IS NULL;
+
+-- Log initialization
+DO $$
+BEGIN
+    RAISE NOTICE 'Transaction status indexes created successfully';
+END $$;
@@ -0,0 +1,47 @@
+-- Simple Wallet Database - Recurrence Rules
+-- V015__create_recurrence_rules_table.sql
+
+-- Lançamentos recorrentes guardados como regra (uma linha por plano), em vez
+-- de uma linha por ocorrência. As ocorrências são expandidas na leitura e só
+-- viram linhas em tb_transactions quando editadas ou efetivadas. end_date é a
+-- data da última ocorrência (calculada a partir de occurrences, quando
+-- informado) e fica nula para regras sem fim.
+CREATE TABLE IF NOT EXISTS tb_recurrence_rules (
+    id BIGSERIAL PRIMARY KEY,
+    user_id VARCHAR(255) NOT NULL,
+    account_id BIGINT NOT NULL,
+    category BIGINT NOT NULL,
+    type SMALLINT NOT NULL,
+    description VARCHAR(500),
+    amount DECIMAL(15,2) NOT NULL,
+    frequency VARCHAR(10) NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE,
+    occurrences INTEGER,
+    created TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT ck_recurrence_rules_frequency CHECK (frequency IN ('WEEKLY', 'MONTHLY', 'YEARLY'))
+);
+
+-- Regras ativas num intervalo: start_date <= fim AND (end_date IS NULL OR end_date >= início)
+CREATE INDEX IF NOT EXISTS idx_recurrence_rules_user_start_date ON tb_recurrence_rules(user_id, start_date);
+
+-- Ocorrência materializada: a transação guarda a regra e a data prevista da ocorrência
+ALTER TABLE tb_transactions ADD COLUMN IF NOT EXISTS recurrence_id BIGINT;
+ALTER TABLE tb_transactions ADD COLUMN IF NOT EXISTS recurrence_date DATE;
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk_transactions_recurrence') THEN
+        ALTER TABLE tb_transactions ADD CONSTRAINT fk_transactions_recurrence
+            FOREIGN KEY (recurrence_id) REFERENCES tb_recurrence_rules(id) ON DELETE SET NULL;
+    END IF;
+END $$;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_transactions_recurrence_date
+    ON tb_transactions(recurrence_id, recurrence_date);
+
+-- Log initialization
+DO $$
+BEGIN
+    RAISE NOTICE 'Table tb_recurrence_rules created successfully';
+END $$;
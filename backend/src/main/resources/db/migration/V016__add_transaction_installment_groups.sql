@@ -0,0 +1,43 @@
+-- Simple Wallet Database - Installment Groups
+-- V016__add_transaction_installment_groups.sql
+
+-- Parcelamentos e empréstimos passam a ser ligados por group_id, em vez do
+-- texto " ID: <crédito> - i de n" na descrição. installment_number é o número
+-- da parcela (1..n); 0 marca o lançamento de origem do grupo (o crédito do
+-- empréstimo). As operações sobre o plano inteiro (consultar, liquidar,
+-- reagendar, remover) são um único UPDATE/DELETE por group_id.
+ALTER TABLE tb_transactions ADD COLUMN IF NOT EXISTS group_id UUID;
+ALTER TABLE tb_transactions ADD COLUMN IF NOT EXISTS installment_number INTEGER;
+
+-- Só as transações parceladas entram no índice
+CREATE INDEX IF NOT EXISTS idx_transactions_group_installment
+    ON tb_transactions(group_id, installment_number)
+    WHERE group_id IS NOT NULL;
+
+-- Empréstimos já gravados: a parcela aponta para o crédito pela descrição. O
+-- group_id é derivado do ID do crédito, para que parcelas e crédito caiam no
+-- mesmo grupo sem tabela auxiliar.
+UPDATE tb_transactions t
+SET group_id = md5('loan-' || l.match[1])::uuid,
+    installment_number = l.match[2]::INTEGER
+FROM (
+    SELECT id, user_id, regexp_match(description, ' ID: ([0-9]+) - ([0-9]+) de [0-9]+$') AS match
+    FROM tb_transactions
+    WHERE description LIKE '% ID: % de %'
+) l
+WHERE t.id = l.id
+  AND l.match IS NOT NULL
+  AND EXISTS (SELECT 1 FROM tb_transactions c WHERE c.id = l.match[1]::BIGINT AND c.user_id = l.user_id);
+
+UPDATE tb_transactions c
+SET group_id = md5('loan-' || c.id)::uuid,
+    installment_number = 0
+WHERE c.group_id IS NULL
+  AND EXISTS (SELECT 1 FROM tb_transactions i
+              WHERE i.group_id = md5('loan-' || c.id)::uuid AND i.user_id = c.user_id);
+
+-- Log initialization
+DO $$
+BEGIN
+    RAISE NOTICE 'Transaction installment groups added successfully';
+END $$;
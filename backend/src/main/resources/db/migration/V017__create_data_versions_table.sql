@@ -0,0 +1,23 @@
+-- Simple Wallet Database - Data Versions
+-- V017__create_data_versions_table.sql
+
+-- Versão monotônica dos dados de cada usuário, incrementada na mesma
+-- transação de toda escrita em contas, categorias e transações. As listagens
+-- devolvem a versão (do usuário ou da família) como ETag fraco e respondem
+-- 304 a If-None-Match sem executar as consultas de dados. Fica fora de
+-- tb_users para que o incremento não invalide o cache de segundo nível dos
+-- usuários.
+CREATE TABLE IF NOT EXISTS tb_data_versions (
+    user_id VARCHAR(255) PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO tb_data_versions (user_id, version)
+SELECT id::text, 0 FROM tb_users
+ON CONFLICT (user_id) DO NOTHING;
+
+-- Log initialization
+DO $$
+BEGIN
+    RAISE NOTICE 'Data versions table created successfully';
+END $$;
@@ -0,0 +1,27 @@
+-- Simple Wallet Database - Account Balances
+-- V018__create_account_balances_table.sql
+
+-- Os somatórios do V010 saem de tb_accounts: cada escrita de transação
+-- atualizava a conta e invalidava o cache de segundo nível das contas e as
+-- consultas em cache sobre tb_accounts. Em tabela própria, sem cache, o
+-- UPDATE incremental só toca a linha de somatórios:
+--   saldo atual    = tb_accounts.balance + effective_total
+--   saldo previsto = tb_accounts.balance + effective_total + pending_total
+CREATE TABLE IF NOT EXISTS tb_account_balances (
+    account_id BIGINT PRIMARY KEY REFERENCES tb_accounts(id) ON DELETE CASCADE,
+    effective_total DECIMAL(15,2) NOT NULL DEFAULT 0.00,
+    pending_total DECIMAL(15,2) NOT NULL DEFAULT 0.00
+);
+
+INSERT INTO tb_account_balances (account_id, effective_total, pending_total)
+SELECT id, effective_total, pending_total FROM tb_accounts
+ON CONFLICT (account_id) DO NOTHING;
+
+ALTER TABLE tb_accounts DROP COLUMN IF EXISTS effective_total;
+ALTER TABLE tb_accounts DROP COLUMN IF EXISTS pending_total;
+
+-- Log initialization
+DO $$
+BEGIN
+    RAISE NOTICE 'Account balances table created successfully';
+END $$;
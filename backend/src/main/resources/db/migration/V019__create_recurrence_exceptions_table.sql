@@ -0,0 +1,19 @@
+-- Simple Wallet Database - Recurrence Exceptions
+-- V019__create_recurrence_exceptions_table.sql
+
+-- Datas removidas de uma regra de recorrência. Sem elas, apagar a transação
+-- de uma ocorrência materializada fazia a ocorrência virtual da mesma data
+-- voltar na expansão. A expansão descarta as datas excluídas do intervalo.
+CREATE TABLE IF NOT EXISTS tb_recurrence_exceptions (
+    id BIGSERIAL PRIMARY KEY,
+    recurrence_id BIGINT NOT NULL REFERENCES tb_recurrence_rules(id) ON DELETE CASCADE,
+    exception_date DATE NOT NULL,
+
+    CONSTRAINT uk_recurrence_exceptions_key UNIQUE (recurrence_id, exception_date)
+);
+
+-- Log initialization
+DO $$
+BEGIN
+    RAISE NOTICE 'Table tb_recurrence_exceptions created successfully';
+END $$;
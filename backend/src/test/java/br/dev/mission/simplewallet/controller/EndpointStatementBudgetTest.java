@@ -0,0 +1,404 @@
+package br.dev.mission.simplewallet.controller;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.dev.mission.simplewallet.support.StatementCounter;
+import br.dev.mission.simplewallet.support.StatementCountingConfig;
+import br.dev.mission.simplewallet.util.LocalDateConverter;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Orçamento de statements e linhas lidas por endpoint, sobre uma massa fixa
+ * (48 transações do pai, 12 do filho). O cache de segundo nível é limpo antes
+ * de cada chamada, então os números são do caso frio. Um endpoint que passe a
+ * fazer uma consulta por linha estoura o orçamento e quebra o build; ao
+ * reduzir consultas, ajuste o orçamento para baixo.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:statement-budget;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@ActiveProfiles("test")
+@Import(StatementCountingConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointStatementBudgetTest {
+
+    private static final String PASSWORD = "secret123";
+
+    @Autowired
+    private TestRestTemplate rest;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private StatementCounter statementCounter;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String parentId;
+    private String childId;
+    private String token;
+    private String childToken;
+    private String refreshToken;
+    private long accountId;
+    private long otherAccountId;
+    private long expenseCategoryId;
+    private long incomeCategoryId;
+    private long transactionId;
+    private long createdAccountId;
+    private long createdCategoryId;
+    private long createdTransactionId;
+    private long createdRecurrenceId;
+    private String createdGroupId;
+    private List<String> occurrenceDates = List.of();
+
+    @BeforeAll
+    void seed() {
+        parentId = register("budget", "budget@example.com").path("id").asText();
+        JsonNode login = login("budget");
+        token = login.path("token").asText();
+        refreshToken = login.path("refreshToken").asText();
+
+        childId = register("budget-child", "child@example.com").path("id").asText();
+        childToken = login("budget-child").path("token").asText();
+        send(childToken, HttpMethod.PATCH, "/api/users/me/parent", Map.of("parentId", parentId));
+
+        accountId = createAccount(token, "Conta corrente");
+        otherAccountId = createAccount(token, "Cartão");
+        expenseCategoryId = createCategory(token, "Mercado", "EX");
+        incomeCategoryId = createCategory(token, "Salário", "IN");
+        for (long account : new long[] { accountId, otherAccountId }) {
+            for (long category : new long[] { expenseCategoryId, incomeCategoryId }) {
+                createInstallments(token, account, category, category == incomeCategoryId ? 0 : 1);
+            }
+        }
+        createInstallments(childToken, createAccount(childToken, "Mesada"),
+                createCategory(childToken, "Lanche", "EX"), 1);
+
+        transactionId = send(token, HttpMethod.GET, "/api/transactions?size=1&sort=dueDate&order=asc", null)
+                .path("data").path("content").path(0).path("id").asLong();
+    }
+
+    @TestFactory
+    Stream<DynamicTest> endpointsStayWithinStatementBudget() {
+        List<EndpointBudget> budgets = List.of(
+                get("GET /api/health", () -> "/api/health", 0, 0),
+
+                post("POST /api/auth/register", () -> "/api/auth/register",
+                        () -> Map.of("username", "budget-new", "email", "new@example.com", "name", "Novo",
+                                "password", PASSWORD), 2, 0).anonymous(),
+                post("POST /api/auth/login", () -> "/api/auth/login",
+                        () -> Map.of("username", "budget", "password", PASSWORD), 2, 1).anonymous(),
+                post("POST /api/auth/refresh", () -> "/api/auth/refresh",
+                        () -> Map.of("refreshToken", refreshToken), 3, 1).anonymous(),
+
+                get("GET /api/users/me", () -> "/api/users/me", 1, 1),
+                get("GET /api/users/{id}", () -> "/api/users/" + childId, 1, 1),
+                get("GET /api/users/me/parent", () -> "/api/users/me/parent", 1, 1),
+                put("PUT /api/users/me", () -> "/api/users/me",
+                        () -> Map.of("username", "budget", "email", "budget@example.com", "name", "Budget"), 3, 1),
+                patch("PATCH /api/users/me/password", () -> "/api/users/me/password",
+                        () -> Map.of("password", PASSWORD), 4, 1)
+                        // A troca de senha revoga os tokens emitidos até o segundo corrente
+                        .then(data -> token = loginInNextSecond("budget")),
+                patch("PATCH /api/users/{childId}/parent", () -> "/api/users/" + childId + "/parent",
+                        () -> Map.of("parentId", parentId), 2, 1),
+
+                post("POST /api/accounts", () -> "/api/accounts", () -> accountBody("Poupança"), 4, 1)
+                        .then(data -> createdAccountId = data.path("id").asLong()),
+                get("GET /api/accounts", () -> "/api/accounts", 4, 8),
+                get("GET /api/accounts?isParent", () -> "/api/accounts?isParent=true", 5, 12),
+                get("GET /api/accounts/{id}", () -> "/api/accounts/" + accountId, 3, 3),
+                put("PUT /api/accounts/{id}", () -> "/api/accounts/" + createdAccountId,
+                        () -> accountBody("Poupança 2"), 5, 3),
+                delete("DELETE /api/accounts/{id}", () -> "/api/accounts/" + createdAccountId, 6, 1),
+
+                post("POST /api/categories", () -> "/api/categories", () -> categoryBody("Lazer"), 3, 1)
+                        .then(data -> createdCategoryId = data.path("id").asLong()),
+                get("GET /api/categories", () -> "/api/categories", 3, 5),
+                get("GET /api/categories?isParent", () -> "/api/categories?isParent=true", 4, 8),
+                get("GET /api/categories/{id}", () -> "/api/categories/" + expenseCategoryId, 2, 2),
+                put("PUT /api/categories/{id}", () -> "/api/categories/" + createdCategoryId,
+                        () -> categoryBody("Lazer 2"), 4, 2),
+                delete("DELETE /api/categories/{id}", () -> "/api/categories/" + createdCategoryId, 5, 1),
+
+                post("POST /api/transactions", () -> "/api/transactions",
+                        () -> transactionBody("Padaria", "05/02/2025"), 7, 3)
+                        .then(data -> createdTransactionId = data.path("id").asLong()),
+                post("POST /api/transactions/batch", () -> "/api/transactions/batch",
+                        () -> installmentBody(accountId, expenseCategoryId, 1, 6), 14, 5)
+                        .then(data -> createdGroupId = data.path(0).path("groupId").asText()),
+                post("POST /api/loan", () -> "/api/loan", this::loanBody, 20, 8),
+                get("GET /api/transactions", () -> "/api/transactions?size=50", 6, 57),
+                get("GET /api/transactions?isParent", () -> "/api/transactions?isParent=true&size=50", 6, 61),
+                get("GET /api/transactions?view=compact", () -> "/api/transactions?view=compact&size=50", 6, 57),
+                get("GET /api/transactions?after", () -> "/api/transactions?after=&size=50", 5, 57),
+                get("GET /api/transactions?after&view=compact",
+                        () -> "/api/transactions?after=&view=compact&size=50", 5, 57),
+                get("GET /api/transactions?status", () -> "/api/transactions?status=overdue&size=50", 6, 57),
+                get("GET /api/transactions/status-counts", () -> "/api/transactions/status-counts", 2, 2),
+                get("GET /api/transactions/status-counts?isParent",
+                        () -> "/api/transactions/status-counts?isParent=true", 2, 3),
+                get("GET /api/transactions/{id}", () -> "/api/transactions/" + transactionId, 4, 4),
+                put("PUT /api/transactions/{id}", () -> "/api/transactions/" + createdTransactionId,
+                        () -> transactionBody("Padaria e café", "06/02/2025"), 7, 4),
+                patch("PATCH /api/transactions/{id}/effective",
+                        () -> "/api/transactions/" + createdTransactionId + "/effective",
+                        () -> Map.of("effectiveDate", "06/02/2025", "effectiveAmount", 12), 8, 4),
+                delete("DELETE /api/transactions/{id}", () -> "/api/transactions/" + createdTransactionId, 5, 1),
+                get("GET /api/transactions/groups/{groupId}", () -> "/api/transactions/groups/" + createdGroupId, 4, 9),
+                patch("PATCH /api/transactions/groups/{groupId}/reschedule",
+                        () -> "/api/transactions/groups/" + createdGroupId + "/reschedule",
+                        () -> Map.of("dueDate", "15/03/2025"), 10, 9),
+                patch("PATCH /api/transactions/groups/{groupId}/settle",
+                        () -> "/api/transactions/groups/" + createdGroupId + "/settle",
+                        () -> Map.of("effectiveDate", "20/03/2025"), 13, 9),
+                delete("DELETE /api/transactions/groups/{groupId}", () -> "/api/transactions/groups/" + createdGroupId, 10, 6),
+                get("GET /api/transactions/export csv", () -> "/api/transactions/export?format=csv", 4, 66),
+                get("GET /api/transactions/export ndjson", () -> "/api/transactions/export?format=ndjson", 4, 66),
+                new EndpointBudget("POST /api/transactions/import", HttpMethod.POST,
+                        () -> "/api/transactions/import?format=ndjson", this::importBody, MediaType.TEXT_PLAIN,
+                        true, 8, 4, data -> { }),
+
+                post("POST /api/recurrences", () -> "/api/recurrences", this::recurrenceBody, 3, 2)
+                        .then(data -> createdRecurrenceId = data.path("id").asLong()),
+                // 53 ocorrências semanais no ano, expandidas sem consulta por ocorrência
+                get("GET /api/recurrences/occurrences", () -> "/api/recurrences/occurrences"
+                        + "?dateFrom=2025-01-01&dateTo=2025-12-31", 6, 4)
+                        .then(data -> occurrenceDates = List.of(isoDate(data.path(0)), isoDate(data.path(1)))),
+                put("PUT /api/recurrences/{id}/occurrences/{date}",
+                        () -> "/api/recurrences/" + createdRecurrenceId + "/occurrences/" + occurrenceDates.get(0),
+                        () -> transactionBody("Feira", "09/01/2025"), 10, 4),
+                patch("PATCH /api/recurrences/{id}/occurrences/{date}/effective",
+                        () -> "/api/recurrences/" + createdRecurrenceId + "/occurrences/" + occurrenceDates.get(1)
+                                + "/effective",
+                        () -> Map.of("effectiveDate", "15/01/2025", "effectiveAmount", 80), 10, 4),
+                delete("DELETE /api/recurrences/{id}/occurrences/{date}",
+                        () -> "/api/recurrences/" + createdRecurrenceId + "/occurrences/" + occurrenceDates.get(0),
+                        7, 2),
+                delete("DELETE /api/recurrences/{id}", () -> "/api/recurrences/" + createdRecurrenceId, 4, 1),
+
+                get("GET /api/reports", () -> "/api/reports?groupBy=month,type", 1, 24),
+                get("GET /api/reports rollups", () -> "/api/reports?groupBy=month,category"
+                        + "&dateFrom=2025-01-01&dateTo=2025-12-31", 2, 50),
+                get("GET /api/reports?isParent", () -> "/api/reports?isParent=true&groupBy=user,type", 2, 5),
+                post("POST /api/reports/rollups/rebuild", () -> "/api/reports/rollups/rebuild", () -> null, 2, 0));
+
+        return budgets.stream().map(budget -> DynamicTest.dynamicTest(budget.name(), () -> verify(budget)));
+    }
+
+    private void verify(EndpointBudget budget) {
+        // Cache de segundo nível frio: o orçamento vale para a primeira requisição
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        statementCounter.reset();
+
+        ResponseEntity<String> response = exchange(budget.authenticated() ? token : null, budget.method(),
+                budget.path().get(), budget.body().get(), budget.contentType());
+
+        long statements = statementCounter.statements();
+        long rows = statementCounter.rows();
+        List<String> queries = statementCounter.queries();
+        String detail = budget.name() + ": " + statements + " statements, " + rows + " linhas\n"
+                + String.join("\n", queries);
+        // Guarda os IDs criados antes das asserções, para os próximos endpoints
+        budget.onSuccess().accept(data(response));
+        assertAll(
+                // Os controllers respondem 200 com o status real no corpo (ex.: 404 em ApiResponse)
+                () -> assertTrue(response.getStatusCode().is2xxSuccessful() && bodyStatus(response) < 400,
+                        budget.name() + " respondeu " + response.getStatusCode() + ": " + response.getBody()),
+                () -> assertTrue(statements <= budget.maxStatements(),
+                        "Statements acima do orçamento (" + budget.maxStatements() + ") em " + detail),
+                () -> assertTrue(rows <= budget.maxRows(),
+                        "Linhas lidas acima do orçamento (" + budget.maxRows() + ") em " + detail));
+    }
+
+    private JsonNode register(String username, String email) {
+        return send(null, HttpMethod.POST, "/api/auth/register",
+                Map.of("username", username, "email", email, "name", username, "password", PASSWORD)).path("data");
+    }
+
+    private JsonNode login(String username) {
+        return send(null, HttpMethod.POST, "/api/auth/login", Map.of("username", username, "password", PASSWORD))
+                .path("data");
+    }
+
+    private String loginInNextSecond(String username) {
+        Instant nextSecond = Instant.now().truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+        try {
+            Thread.sleep(Math.max(0, Duration.between(Instant.now(), nextSecond).toMillis() + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return login(username).path("token").asText();
+    }
+
+    private long createAccount(String userToken, String description) {
+        return send(userToken, HttpMethod.POST, "/api/accounts", accountBody(description)).path("data").path("id")
+                .asLong();
+    }
+
+    private long createCategory(String userToken, String category, String type) {
+        return send(userToken, HttpMethod.POST, "/api/categories",
+                Map.of("category", category, "type", type, "color", "#336699")).path("data").path("id").asLong();
+    }
+
+    private void createInstallments(String userToken, long account, long category, int type) {
+        send(userToken, HttpMethod.POST, "/api/transactions/batch", installmentBody(account, category, type, 12));
+    }
+
+    private Map<String, Object> accountBody(String description) {
+        return Map.of("description", description, "balance", 1000, "credit", 500, "dueDate", 10);
+    }
+
+    private Map<String, Object> categoryBody(String category) {
+        return Map.of("category", category, "type", "EX", "color", "#993366");
+    }
+
+    private Map<String, Object> transactionBody(String description, String dueDate) {
+        return Map.of("dueDate", dueDate, "description", description, "amount", 12.5, "type", 1,
+                "accountId", accountId, "categoryId", expenseCategoryId);
+    }
+
+    private Map<String, Object> installmentBody(long account, long category, int type, int installments) {
+        return Map.of("dueDate", "10/01/2025", "description", "Parcela", "amount", 100, "type", type,
+                "accountId", account, "categoryId", category, "qtdeInstallments", installments);
+    }
+
+    private Map<String, Object> loanBody() {
+        return Map.ofEntries(Map.entry("description", "Empréstimo"), Map.entry("amount", 1200),
+                Map.entry("type", 0), Map.entry("dueDate", "01/03/2025"), Map.entry("accountId", accountId),
+                Map.entry("categoryId", incomeCategoryId), Map.entry("descriptionLoan", "Parcela empréstimo"),
+                Map.entry("qtdeInstallments", 6), Map.entry("amountInstallment", 220), Map.entry("typeLoan", 1),
+                Map.entry("dueDateLoan", "01/04/2025"), Map.entry("accountIdLoan", otherAccountId),
+                Map.entry("categoryIdLoan", expenseCategoryId));
+    }
+
+    private Map<String, Object> recurrenceBody() {
+        return Map.of("description", "Feira", "amount", 75, "type", 1, "frequency", "WEEKLY",
+                "startDate", "01/01/2025", "accountId", accountId, "categoryId", expenseCategoryId);
+    }
+
+    private static String isoDate(JsonNode occurrence) {
+        return LocalDateConverter.convert(occurrence.path("occurrenceDate").asText()).toString();
+    }
+
+    private String importBody() {
+        List<String> lines = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            lines.add("{\"dueDate\":\"" + String.format("%02d", i) + "/06/2025\",\"description\":\"Importada " + i
+                    + "\",\"amount\":" + (10 * i) + ",\"type\":1,\"accountId\":"
+                    + (i % 2 == 0 ? accountId : otherAccountId) + ",\"categoryId\":" + expenseCategoryId + "}");
+        }
+        return String.join("\n", lines) + "\n";
+    }
+
+    private JsonNode send(String userToken, HttpMethod method, String path, Object body) {
+        ResponseEntity<String> response = exchange(userToken, method, path, body, MediaType.APPLICATION_JSON);
+        assertTrue(response.getStatusCode().is2xxSuccessful(), path + " -> " + response.getStatusCode());
+        return read(response.getBody());
+    }
+
+    private ResponseEntity<String> exchange(String userToken, HttpMethod method, String path, Object body,
+            MediaType contentType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(contentType);
+        if (userToken != null) {
+            headers.setBearerAuth(userToken);
+        }
+        return rest.exchange(path, method, new HttpEntity<>(body, headers), String.class);
+    }
+
+    private int bodyStatus(ResponseEntity<String> response) {
+        String body = response.getBody();
+        if (body == null || !body.startsWith("{")) {
+            return response.getStatusCode().value();
+        }
+        return read(body).path("status").asInt(response.getStatusCode().value());
+    }
+
+    private JsonNode data(ResponseEntity<String> response) {
+        String body = response.getBody();
+        if (body == null || !body.startsWith("{")) {
+            return objectMapper.nullNode();
+        }
+        return read(body).path("data");
+    }
+
+    private JsonNode read(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (Exception e) {
+            throw new IllegalStateException("Resposta inválida: " + body, e);
+        }
+    }
+
+    private static EndpointBudget get(String name, Supplier<String> path, int maxStatements, int maxRows) {
+        return new EndpointBudget(name, HttpMethod.GET, path, () -> null, MediaType.APPLICATION_JSON, true,
+                maxStatements, maxRows, data -> { });
+    }
+
+    private static EndpointBudget delete(String name, Supplier<String> path, int maxStatements, int maxRows) {
+        return new EndpointBudget(name, HttpMethod.DELETE, path, () -> null, MediaType.APPLICATION_JSON, true,
+                maxStatements, maxRows, data -> { });
+    }
+
+    private static EndpointBudget post(String name, Supplier<String> path, Supplier<Object> body, int maxStatements,
+            int maxRows) {
+        return new EndpointBudget(name, HttpMethod.POST, path, body, MediaType.APPLICATION_JSON, true,
+                maxStatements, maxRows, data -> { });
+    }
+
+    private static EndpointBudget put(String name, Supplier<String> path, Supplier<Object> body, int maxStatements,
+            int maxRows) {
+        return new EndpointBudget(name, HttpMethod.PUT, path, body, MediaType.APPLICATION_JSON, true,
+                maxStatements, maxRows, data -> { });
+    }
+
+    private static EndpointBudget patch(String name, Supplier<String> path, Supplier<Object> body,
+            int maxStatements, int maxRows) {
+        return new EndpointBudget(name, HttpMethod.PATCH, path, body, MediaType.APPLICATION_JSON, true,
+                maxStatements, maxRows, data -> { });
+    }
+
+    private record EndpointBudget(String name, HttpMethod method, Supplier<String> path, Supplier<Object> body,
+            MediaType contentType, boolean authenticated, int maxStatements, int maxRows,
+            Consumer<JsonNode> onSuccess) {
+
+        EndpointBudget anonymous() {
+            return new EndpointBudget(name, method, path, body, contentType, false, maxStatements, maxRows,
+                    onSuccess);
+        }
+
+        EndpointBudget then(Consumer<JsonNode> next) {
+            return new EndpointBudget(name, method, path, body, contentType, authenticated, maxStatements, maxRows,
+                    next);
+        }
+    }
+}
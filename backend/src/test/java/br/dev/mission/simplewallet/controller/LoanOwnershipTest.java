@@ -0,0 +1,137 @@
+package br.dev.mission.simplewallet.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * As parcelas de um empréstimo usam accountIdLoan e categoryIdLoan, que
+ * precisam pertencer ao usuário logado como a conta e a categoria do crédito.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LoanOwnershipTest {
+    private static final String PASSWORD = "secret123";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+    private long accountId;
+    private long incomeCategoryId;
+    private long expenseCategoryId;
+    private String victimToken;
+    private long victimAccountId;
+    private long victimCategoryId;
+
+    @BeforeAll
+    void seed() {
+        token = registerAndLogin("loan-owner", "loan-owner@example.com");
+        accountId = createAccount(token);
+        incomeCategoryId = createCategory(token, "IN");
+        expenseCategoryId = createCategory(token, "EX");
+
+        victimToken = registerAndLogin("loan-victim", "loan-victim@example.com");
+        victimAccountId = createAccount(victimToken);
+        victimCategoryId = createCategory(victimToken, "EX");
+    }
+
+    @Test
+    void loanWithForeignInstallmentAccountIsForbidden() {
+        ResponseEntity<String> response = exchange(token, HttpMethod.POST, "/api/loan",
+                loanBody(victimAccountId, expenseCategoryId));
+
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        JsonNode account = send(victimToken, HttpMethod.GET, "/api/accounts/" + victimAccountId).path("data");
+        assertEquals(0, new BigDecimal("1000").compareTo(account.path("currentBalance").decimalValue()));
+        assertEquals(0, new BigDecimal("1000").compareTo(account.path("projectedBalance").decimalValue()));
+        assertNoTransactions();
+    }
+
+    @Test
+    void loanWithForeignInstallmentCategoryIsForbidden() {
+        ResponseEntity<String> response = exchange(token, HttpMethod.POST, "/api/loan",
+                loanBody(accountId, victimCategoryId));
+
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        assertNoTransactions();
+    }
+
+    private void assertNoTransactions() {
+        // O crédito, gravado antes das parcelas, volta junto no rollback
+        assertEquals(0, send(token, HttpMethod.GET, "/api/transactions").path("data").path("totalElements").asLong());
+    }
+
+    private Map<String, Object> loanBody(long installmentAccountId, long installmentCategoryId) {
+        return Map.ofEntries(Map.entry("description", "Empréstimo"), Map.entry("amount", 1200),
+                Map.entry("type", 0), Map.entry("dueDate", "01/03/2025"), Map.entry("accountId", accountId),
+                Map.entry("categoryId", incomeCategoryId), Map.entry("descriptionLoan", "Parcela empréstimo"),
+                Map.entry("qtdeInstallments", 6), Map.entry("amountInstallment", 220), Map.entry("typeLoan", 1),
+                Map.entry("dueDateLoan", "01/04/2025"), Map.entry("accountIdLoan", installmentAccountId),
+                Map.entry("categoryIdLoan", installmentCategoryId));
+    }
+
+    private String registerAndLogin(String username, String email) {
+        exchange(null, HttpMethod.POST, "/api/auth/register",
+                Map.of("username", username, "email", email, "name", username, "password", PASSWORD));
+        return read(exchange(null, HttpMethod.POST, "/api/auth/login",
+                Map.of("username", username, "password", PASSWORD))).path("data").path("token").asText();
+    }
+
+    private long createAccount(String userToken) {
+        return read(exchange(userToken, HttpMethod.POST, "/api/accounts",
+                Map.of("description", "Conta", "balance", 1000, "credit", 0, "dueDate", 10)))
+                .path("data").path("id").asLong();
+    }
+
+    private long createCategory(String userToken, String type) {
+        return read(exchange(userToken, HttpMethod.POST, "/api/categories",
+                Map.of("category", "Categoria " + type, "type", type, "color", "#336699")))
+                .path("data").path("id").asLong();
+    }
+
+    private JsonNode send(String userToken, HttpMethod method, String path) {
+        ResponseEntity<String> response = exchange(userToken, method, path, null);
+        assertTrue(response.getStatusCode().is2xxSuccessful(), path + " -> " + response.getStatusCode());
+        return read(response);
+    }
+
+    private ResponseEntity<String> exchange(String userToken, HttpMethod method, String path, Object body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (userToken != null) {
+            headers.setBearerAuth(userToken);
+        }
+        return restTemplate.exchange(path, method, new HttpEntity<>(body, headers), String.class);
+    }
+
+    private JsonNode read(ResponseEntity<String> response) {
+        try {
+            return objectMapper.readTree(response.getBody());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package br.dev.mission.simplewallet.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.dev.mission.simplewallet.util.LocalDateConverter;
+
+/**
+ * Ocorrência removida, pela transação materializada ou pelo endpoint da
+ * recorrência, não volta na expansão.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RecurrenceOccurrenceDeletionTest {
+    private static final String PASSWORD = "secret123";
+    private static final String OCCURRENCES = "/api/recurrences/occurrences?dateFrom=2024-12-01&dateTo=2025-02-28";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+    private long accountId;
+    private long categoryId;
+
+    @BeforeAll
+    void seed() {
+        exchange(null, HttpMethod.POST, "/api/auth/register", Map.of("username", "recurrence-owner", "email",
+                "recurrence-owner@example.com", "name", "recurrence-owner", "password", PASSWORD));
+        token = read(exchange(null, HttpMethod.POST, "/api/auth/login",
+                Map.of("username", "recurrence-owner", "password", PASSWORD))).path("data").path("token").asText();
+        accountId = send(HttpMethod.POST, "/api/accounts",
+                Map.of("description", "Conta", "balance", 1000, "credit", 0, "dueDate", 10)).path("id").asLong();
+        categoryId = send(HttpMethod.POST, "/api/categories",
+                Map.of("category", "Feira", "type", "EX", "color", "#336699")).path("id").asLong();
+    }
+
+    @Test
+    void deletedMaterializedOccurrenceDoesNotComeBack() {
+        long recurrenceId = createWeeklyRecurrence();
+        List<String> dates = occurrenceDates(recurrenceId);
+        long transactionId = send(HttpMethod.PUT, occurrencePath(recurrenceId, dates.get(1)),
+                occurrenceBody(dates.get(1))).path("id").asLong();
+
+        send(HttpMethod.DELETE, "/api/transactions/" + transactionId, null);
+
+        assertEquals(without(dates, 1), occurrenceDates(recurrenceId));
+    }
+
+    @Test
+    void deletedVirtualOccurrenceIsExcluded() {
+        long recurrenceId = createWeeklyRecurrence();
+        List<String> dates = occurrenceDates(recurrenceId);
+
+        ResponseEntity<String> response = exchange(token, HttpMethod.DELETE, occurrencePath(recurrenceId, dates.get(2)),
+                null);
+
+        assertEquals(200, read(response).path("status").asInt());
+        assertEquals(without(dates, 2), occurrenceDates(recurrenceId));
+        // A data excluída deixa de existir também para edição
+        assertEquals(404, read(exchange(token, HttpMethod.PUT, occurrencePath(recurrenceId, dates.get(2)),
+                occurrenceBody(dates.get(2)))).path("status").asInt());
+    }
+
+    private long createWeeklyRecurrence() {
+        return send(HttpMethod.POST, "/api/recurrences", Map.of("description", "Feira", "amount", 75, "type", 1,
+                "frequency", "WEEKLY", "startDate", "01/01/2025", "occurrences", 5, "accountId", accountId,
+                "categoryId", categoryId)).path("id").asLong();
+    }
+
+    private String occurrencePath(long recurrenceId, String date) {
+        return "/api/recurrences/" + recurrenceId + "/occurrences/" + LocalDateConverter.convert(date);
+    }
+
+    private Map<String, Object> occurrenceBody(String dueDate) {
+        return Map.of("dueDate", dueDate, "description", "Feira", "amount", 80, "type", 1, "accountId", accountId,
+                "categoryId", categoryId);
+    }
+
+    private static List<String> without(List<String> dates, int index) {
+        List<String> remaining = new ArrayList<>(dates);
+        remaining.remove(index);
+        return remaining;
+    }
+
+    private List<String> occurrenceDates(long recurrenceId) {
+        List<String> dates = new ArrayList<>();
+        for (JsonNode occurrence : send(HttpMethod.GET, OCCURRENCES, null)) {
+            if (occurrence.path("recurrenceId").asLong() == recurrenceId) {
+                dates.add(occurrence.path("occurrenceDate").asText());
+            }
+        }
+        return dates;
+    }
+
+    private JsonNode send(HttpMethod method, String path, Object body) {
+        ResponseEntity<String> response = exchange(token, method, path, body);
+        assertTrue(response.getStatusCode().is2xxSuccessful(), path + " -> " + response.getStatusCode());
+        return read(response).path("data");
+    }
+
+    private ResponseEntity<String> exchange(String userToken, HttpMethod method, String path, Object body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (userToken != null) {
+            headers.setBearerAuth(userToken);
+        }
+        return restTemplate.exchange(path, method, new HttpEntity<>(body, headers), String.class);
+    }
+
+    private JsonNode read(ResponseEntity<String> response) {
+        try {
+            return objectMapper.readTree(response.getBody());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
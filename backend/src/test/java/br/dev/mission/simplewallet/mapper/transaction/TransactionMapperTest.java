@@ -0,0 +1,151 @@
+package br.dev.mission.simplewallet.mapper.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import br.dev.mission.simplewallet.dto.transaction.CompactTransactionPage;
+import br.dev.mission.simplewallet.dto.transaction.TransactionResponse;
+import br.dev.mission.simplewallet.model.Account;
+import br.dev.mission.simplewallet.model.Category;
+import br.dev.mission.simplewallet.model.Transaction;
+import br.dev.mission.simplewallet.model.TransactionType;
+import br.dev.mission.simplewallet.model.User;
+import br.dev.mission.simplewallet.repository.account.AccountRepository;
+import br.dev.mission.simplewallet.repository.category.CategoryRepository;
+import br.dev.mission.simplewallet.repository.transaction.TransactionRepository;
+import br.dev.mission.simplewallet.repository.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class TransactionMapperTest {
+
+    @Autowired
+    private TransactionMapper transactionMapper;
+    @Autowired
+    private TransactionRepository transactionRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String userId;
+
+    @BeforeEach
+    void seed() {
+        User user = new User();
+        user.setUsername("mapper");
+        user.setEmail("mapper@simplewallet.com");
+        user.setNome("Mapper");
+        user.setPassword("secret123");
+        userId = userRepository.save(user).getId().toString();
+
+        List<Account> accounts = new ArrayList<>();
+        List<Category> categories = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Account account = new Account();
+            account.setDescription("Conta " + i);
+            account.setBalance(BigDecimal.ZERO);
+            account.setCredit(BigDecimal.ZERO);
+            account.setDueDate(10);
+            account.setUserId(userId);
+            accounts.add(accountRepository.save(account));
+
+            Category category = new Category();
+            category.setCategory("Categoria " + i);
+            category.setType(TransactionType.EX);
+            category.setUserId(userId);
+            categories.add(categoryRepository.save(category));
+        }
+
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Transaction transaction = new Transaction();
+            transaction.setDescription("Transação " + i);
+            transaction.setAmount(BigDecimal.TEN);
+            transaction.setType(TransactionType.EX);
+            transaction.setDueDate(LocalDate.of(2025, 1, 1).plusDays(i));
+            transaction.setAccountId(accounts.get(i % accounts.size()).getId());
+            transaction.setCategory(categories.get(i % categories.size()).getId());
+            transaction.setUserId(userId);
+            transactions.add(transaction);
+        }
+        transactionRepository.saveAll(transactions);
+    }
+
+    @AfterEach
+    void cleanup() {
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void statementCountPerPageDoesNotGrowWithPageSize() {
+        long small = mappingStatements(10);
+        long large = mappingStatements(200);
+
+        assertEquals(3, small);
+        assertEquals(small, large);
+    }
+
+    @Test
+    void bulkMappingResolvesNames() {
+        List<TransactionResponse> responses = transactionMapper.toResponseList(
+                transactionRepository.findByUserId(userId, PageRequest.of(0, 20)).getContent());
+
+        assertEquals(20, responses.size());
+        responses.forEach(response -> {
+            assertNotNull(response.account());
+            assertNotNull(response.category());
+            assertEquals("mapper", response.username());
+        });
+    }
+
+    @Test
+    void compactPageSendsEachNameOnce() {
+        CompactTransactionPage page = transactionMapper.toCompactPage(
+                transactionRepository.findByUserId(userId, PageRequest.of(0, 200)));
+
+        assertEquals(200, page.content().size());
+        assertEquals(200, page.totalElements());
+        assertEquals(5, page.references().accounts().size());
+        assertEquals(5, page.references().categories().size());
+        assertEquals(Map.of(userId, "mapper"), page.references().users());
+        page.content().forEach(row -> {
+            assertNotNull(page.references().accounts().get(row.accountId()));
+            assertNotNull(page.references().categories().get(row.categoryId()));
+        });
+    }
+
+    private long mappingStatements(int pageSize) {
+        List<Transaction> page = transactionRepository.findByUserId(userId, PageRequest.of(0, pageSize)).getContent();
+        assertEquals(pageSize, page.size());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        transactionMapper.toResponseList(page);
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,59 @@
+package br.dev.mission.simplewallet.service.auth;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import br.dev.mission.simplewallet.repository.auth.TokenRevocationRepository;
+import br.dev.mission.simplewallet.security.JwtUtil;
+import br.dev.mission.simplewallet.security.TokenClaims;
+
+class TokenRevocationServiceTest {
+
+    private final TokenRevocationRepository tokenRevocationRepository = mock(TokenRevocationRepository.class);
+    private final TokenRevocationService tokenRevocationService = new TokenRevocationService(tokenRevocationRepository,
+            new JwtUtil("test-secret-key-with-at-least-32-characters"), 100, 0.01);
+
+    @Test
+    void revocationDuringReloadSurvivesTheSwap() {
+        UUID userId = UUID.randomUUID();
+        Instant issuedAt = Instant.now().minusSeconds(5);
+        // As revogações são confirmadas enquanto a consulta da recarga ainda
+        // devolve a lista anterior a elas
+        when(tokenRevocationRepository.findByExpiresAtAfter(any())).thenAnswer(invocation -> {
+            tokenRevocationService.revokeToken("jti-1", Instant.now().plusSeconds(60));
+            tokenRevocationService.revokeUser(userId);
+            return List.of();
+        });
+
+        tokenRevocationService.load();
+
+        assertTrue(tokenRevocationService.isRevoked(claims(UUID.randomUUID().toString(), "jti-1", issuedAt)));
+        assertTrue(tokenRevocationService.isRevoked(claims(userId.toString(), "jti-2", issuedAt)));
+    }
+
+    @Test
+    void userRevocationCoversTokensIssuedInTheSameSecond() {
+        UUID userId = UUID.randomUUID();
+        Instant sameSecond = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+        tokenRevocationService.revokeUser(userId);
+
+        assertTrue(tokenRevocationService.isRevoked(claims(userId.toString(), "jti-1", sameSecond)));
+        assertFalse(tokenRevocationService.isRevoked(
+                claims(userId.toString(), "jti-2", Instant.now().plusSeconds(2).truncatedTo(ChronoUnit.SECONDS))));
+    }
+
+    private static TokenClaims claims(String userId, String tokenId, Instant issuedAt) {
+        return new TokenClaims("user", userId, null, tokenId, issuedAt, issuedAt.plusSeconds(3600));
+    }
+}
@@ -0,0 +1,46 @@
+package br.dev.mission.simplewallet.service.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import br.dev.mission.simplewallet.model.User;
+import br.dev.mission.simplewallet.repository.user.UserRepository;
+
+class FamilyCacheTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final FamilyCache familyCache = new FamilyCache(userRepository, 100, Duration.ofMinutes(10));
+
+    @Test
+    void invalidationDuringLoadDiscardsTheLoadedList() {
+        UUID parentId = UUID.randomUUID();
+        User before = user();
+        User after = user();
+        // updateParent grava o novo vínculo e invalida enquanto a primeira
+        // consulta ainda devolve a família anterior
+        when(userRepository.findByParentId(parentId)).thenAnswer(invocation -> {
+            familyCache.invalidate(parentId);
+            return List.of(before);
+        }).thenReturn(List.of(after));
+
+        assertEquals(List.of(before.getId().toString()), familyCache.childIds(parentId));
+        assertEquals(List.of(after.getId().toString()), familyCache.childIds(parentId));
+        assertEquals(List.of(after.getId().toString()), familyCache.childIds(parentId));
+        verify(userRepository, times(2)).findByParentId(parentId);
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        return user;
+    }
+}
@@ -0,0 +1,43 @@
+package br.dev.mission.simplewallet.support;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Envolve o DataSource do profile de teste com um proxy que alimenta o
+ * {@link StatementCounter}. Importar com {@code @Import} nos testes que
+ * verificam orçamento de consultas.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+@Profile("test")
+public class StatementCountingConfig {
+
+    @Bean
+    public static StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor(StatementCounter statementCounter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(statementCounter)
+                            .proxyResultSet()
+                            .methodListener(statementCounter)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}